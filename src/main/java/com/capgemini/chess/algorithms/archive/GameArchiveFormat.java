@@ -0,0 +1,49 @@
+package com.capgemini.chess.algorithms.archive;
+
+import com.capgemini.chess.algorithms.data.enums.GameResult;
+
+/**
+ * layout of the binary game archive. The file starts with a magic number and
+ * a version, followed by game records, each of them with a header (number of
+ * moves, result, levels and points of both players) and the moves packed in
+ * 16 bits (see {@link com.capgemini.chess.algorithms.move.PackedMove}). All
+ * values are big-endian.
+ *
+ */
+final class GameArchiveFormat {
+
+	static final int MAGIC = 0x43484741;
+	static final short VERSION = 1;
+	static final int FILE_HEADER_SIZE = Integer.BYTES + Short.BYTES;
+
+	/**
+	 * moves count (unsigned short), result, white level, black level, white
+	 * points, black points
+	 */
+	static final int GAME_HEADER_SIZE = Short.BYTES + 3 * Byte.BYTES + 2 * Integer.BYTES;
+	static final int MOVE_SIZE = Short.BYTES;
+	static final int MAX_MOVES = 0xFFFF;
+
+	/**
+	 * stored instead of a result or a level which is not known
+	 */
+	static final byte NONE = 0;
+
+	private static final GameResult[] RESULTS = GameResult.values();
+
+	private GameArchiveFormat() {
+	}
+
+	static byte encodeResult(GameResult result) {
+		return result == null ? NONE : (byte) (result.ordinal() + 1);
+	}
+
+	static boolean isValidResult(byte result) {
+		return result >= NONE && result <= RESULTS.length;
+	}
+
+	static GameResult decodeResult(byte result) {
+		return result == NONE ? null : RESULTS[result - 1];
+	}
+
+}
@@ -0,0 +1,230 @@
+package com.capgemini.chess.algorithms.archive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.capgemini.chess.algorithms.data.enums.GameResult;
+import com.capgemini.chess.algorithms.data.enums.Level;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+import com.capgemini.chess.algorithms.move.MoveList;
+import com.capgemini.chess.algorithms.move.PackedMove;
+
+/**
+ * reads games of a binary game archive written by {@link GameArchiveWriter}.
+ * The file is mapped into memory and the reader works as a cursor: {@link #next()}
+ * moves to the next game and the getters read the current game straight from
+ * the mapped buffer, so no object is created per game unless the game is
+ * replayed by {@link #replay()}.
+ *
+ */
+public class GameArchiveReader implements Closeable {
+
+	private static final int RESULT_OFFSET = Short.BYTES;
+	private static final int WHITE_LEVEL_OFFSET = RESULT_OFFSET + Byte.BYTES;
+	private static final int BLACK_LEVEL_OFFSET = WHITE_LEVEL_OFFSET + Byte.BYTES;
+	private static final int WHITE_POINTS_OFFSET = BLACK_LEVEL_OFFSET + Byte.BYTES;
+	private static final int BLACK_POINTS_OFFSET = WHITE_POINTS_OFFSET + Integer.BYTES;
+
+	private final FileChannel channel;
+	private final MappedByteBuffer buffer;
+	private int gameOffset = -1;
+	private int nextGameOffset = GameArchiveFormat.FILE_HEADER_SIZE;
+	private int movesCount;
+	private int gameIndex = -1;
+
+	/**
+	 * opens the archive (archives up to 2 GB can be mapped)
+	 * @param path path of the archive file
+	 * @throws IOException in case the file cannot be read or is not a game archive
+	 */
+	public GameArchiveReader(Path path) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			long size = this.channel.size();
+			if (size > Integer.MAX_VALUE) {
+				throw new IOException("The game archive is too large to be mapped: " + size + " bytes");
+			}
+			this.buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			if (size < GameArchiveFormat.FILE_HEADER_SIZE || this.buffer.getInt(0) != GameArchiveFormat.MAGIC) {
+				throw new IOException("The file is not a game archive!");
+			}
+			short version = this.buffer.getShort(Integer.BYTES);
+			if (version != GameArchiveFormat.VERSION) {
+				throw new IOException("Unsupported version of the game archive: " + version);
+			}
+		} catch (IOException e) {
+			this.channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * moves the cursor to the next game of the archive
+	 * @return true if there is the next game, false if all games were read
+	 * @throws IOException in case the record of the game is damaged
+	 */
+	public boolean next() throws IOException {
+		if (this.nextGameOffset == this.buffer.limit()) {
+			return false;
+		}
+		if (this.buffer.limit() - this.nextGameOffset < GameArchiveFormat.GAME_HEADER_SIZE) {
+			throw new IOException("The game archive is truncated at " + this.nextGameOffset + "!");
+		}
+		int movesCount = Short.toUnsignedInt(this.buffer.getShort(this.nextGameOffset));
+		int recordEnd = this.nextGameOffset + GameArchiveFormat.GAME_HEADER_SIZE
+				+ movesCount * GameArchiveFormat.MOVE_SIZE;
+		if (recordEnd > this.buffer.limit()) {
+			throw new IOException("The game archive is truncated at " + this.nextGameOffset + "!");
+		}
+		byte result = this.buffer.get(this.nextGameOffset + RESULT_OFFSET);
+		if (!(GameArchiveFormat.isValidResult(result))) {
+			throw new IOException("Invalid game result at " + this.nextGameOffset + "!");
+		}
+		this.gameOffset = this.nextGameOffset;
+		this.nextGameOffset = recordEnd;
+		this.movesCount = movesCount;
+		this.gameIndex++;
+		return true;
+	}
+
+	/**
+	 * moves the cursor before the first game of the archive
+	 */
+	public void rewind() {
+		this.gameOffset = -1;
+		this.nextGameOffset = GameArchiveFormat.FILE_HEADER_SIZE;
+		this.movesCount = 0;
+		this.gameIndex = -1;
+	}
+
+	/**
+	 * @return index of the current game in the archive
+	 */
+	public int getGameIndex() {
+		checkCurrentGame();
+		return this.gameIndex;
+	}
+
+	/**
+	 * @return result of the current game from the white player's point of view,
+	 *         null if not known
+	 */
+	public GameResult getResult() {
+		checkCurrentGame();
+		return GameArchiveFormat.decodeResult(this.buffer.get(this.gameOffset + RESULT_OFFSET));
+	}
+
+	/**
+	 * @return level of the white player, null if not known
+	 */
+	public Level getWhiteLevel() {
+		checkCurrentGame();
+		return Level.getLevelByValue(this.buffer.get(this.gameOffset + WHITE_LEVEL_OFFSET));
+	}
+
+	/**
+	 * @return level of the black player, null if not known
+	 */
+	public Level getBlackLevel() {
+		checkCurrentGame();
+		return Level.getLevelByValue(this.buffer.get(this.gameOffset + BLACK_LEVEL_OFFSET));
+	}
+
+	public int getWhitePoints() {
+		checkCurrentGame();
+		return this.buffer.getInt(this.gameOffset + WHITE_POINTS_OFFSET);
+	}
+
+	public int getBlackPoints() {
+		checkCurrentGame();
+		return this.buffer.getInt(this.gameOffset + BLACK_POINTS_OFFSET);
+	}
+
+	/**
+	 * @return number of moves (halfmoves) of the current game
+	 */
+	public int getMovesCount() {
+		checkCurrentGame();
+		return this.movesCount;
+	}
+
+	/**
+	 * @param index index of the move (0 - {@link #getMovesCount()} - 1)
+	 * @return the packed move (see {@link com.capgemini.chess.algorithms.move.PackedMove})
+	 */
+	public int getMove(int index) {
+		checkCurrentGame();
+		if (index < 0 || index >= this.movesCount) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", moves: " + this.movesCount);
+		}
+		return Short.toUnsignedInt(this.buffer.getShort(this.gameOffset + GameArchiveFormat.GAME_HEADER_SIZE
+				+ index * GameArchiveFormat.MOVE_SIZE));
+	}
+
+	/**
+	 * adds the packed moves of the current game to the list
+	 * @param moves list the moves are added to
+	 */
+	public void copyMoves(MoveList moves) {
+		for (int i = 0; i < getMovesCount(); i++) {
+			moves.add(getMove(i));
+		}
+	}
+
+	/**
+	 * replays the current game from the initial position, every stored move is
+	 * checked against the legal moves of the position before it is made
+	 * @return board manager with the final position of the game
+	 * @throws IOException in case a stored move is not legal (the archive is
+	 *             damaged)
+	 */
+	public BoardManager replay() throws IOException {
+		BoardManager boardManager = new BoardManager();
+		MoveList legalMoves = new MoveList();
+		for (int i = 0; i < getMovesCount(); i++) {
+			int move = getMove(i);
+			try {
+				legalMoves.clear();
+				boardManager.generateLegalMoves(legalMoves);
+			} catch (NoKingException e) {
+				throw new IOException("Corrupt game " + this.gameIndex + " in the archive: " + e.getMessage(), e);
+			}
+			if (!(containsMove(legalMoves, move))) {
+				throw new IOException("Corrupt game " + this.gameIndex + " in the archive: move " + (i + 1)
+						+ " is not legal!");
+			}
+			boardManager.makeMove(move);
+		}
+		return boardManager;
+	}
+
+	/**
+	 * closes the file channel, the mapped buffer is released when it is garbage
+	 * collected
+	 */
+	@Override
+	public void close() throws IOException {
+		this.channel.close();
+	}
+
+	private static boolean containsMove(MoveList moves, int move) {
+		for (int i = 0; i < moves.size(); i++) {
+			if (PackedMove.withoutMovedPiece(moves.get(i)) == move) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void checkCurrentGame() {
+		if (this.gameOffset < 0) {
+			throw new IllegalStateException("There is no current game, call next() first!");
+		}
+	}
+
+}
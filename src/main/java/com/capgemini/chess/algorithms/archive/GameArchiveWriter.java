@@ -0,0 +1,115 @@
+package com.capgemini.chess.algorithms.archive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.capgemini.chess.algorithms.data.Player;
+import com.capgemini.chess.algorithms.data.enums.GameResult;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.move.MoveList;
+import com.capgemini.chess.algorithms.move.PackedMove;
+
+/**
+ * writes finished games to a binary game archive (see
+ * {@link GameArchiveFormat}), which can be read by {@link GameArchiveReader}.
+ * Games are collected in a buffer and written to the file channel when the
+ * buffer is full or the writer is closed.
+ *
+ */
+public class GameArchiveWriter implements Closeable {
+
+	private static final int BUFFER_SIZE = 1 << 18;
+
+	private final FileChannel channel;
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+	private int gamesWritten;
+
+	/**
+	 * creates a new archive (an existing file is overwritten)
+	 * @param path path of the archive file
+	 * @throws IOException in case the file cannot be created
+	 */
+	public GameArchiveWriter(Path path) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		this.buffer.putInt(GameArchiveFormat.MAGIC);
+		this.buffer.putShort(GameArchiveFormat.VERSION);
+	}
+
+	/**
+	 * appends the game played on the board to the archive
+	 * @param board board with the move history of the game played from the
+	 *            initial position
+	 * @param result result of the game from the white player's point of view,
+	 *            null if not known
+	 * @param white white player, null if not known
+	 * @param black black player, null if not known
+	 * @throws IOException in case the archive cannot be written
+	 * @throws IllegalArgumentException in case the game does not start from the
+	 *             initial position or is too long to be archived
+	 */
+	public void writeGame(Board board, GameResult result, Player white, Player black) throws IOException {
+		if (board.getStartPly() != 0) {
+			throw new IllegalArgumentException("Only games played from the initial position can be archived!");
+		}
+		MoveList moves = board.getPackedMoveHistory();
+		if (moves.size() > GameArchiveFormat.MAX_MOVES) {
+			throw new IllegalArgumentException("The game has too many moves to be archived: " + moves.size());
+		}
+		int recordSize = GameArchiveFormat.GAME_HEADER_SIZE + moves.size() * GameArchiveFormat.MOVE_SIZE;
+		if (this.buffer.remaining() < recordSize) {
+			flush();
+		}
+
+		this.buffer.putShort((short) moves.size());
+		this.buffer.put(GameArchiveFormat.encodeResult(result));
+		this.buffer.put(level(white));
+		this.buffer.put(level(black));
+		this.buffer.putInt(white == null ? 0 : white.getPoints());
+		this.buffer.putInt(black == null ? 0 : black.getPoints());
+		for (int i = 0; i < moves.size(); i++) {
+			this.buffer.putShort((short) PackedMove.withoutMovedPiece(moves.get(i)));
+		}
+		this.gamesWritten++;
+	}
+
+	/**
+	 * @return number of games written by this writer
+	 */
+	public int getGamesWritten() {
+		return this.gamesWritten;
+	}
+
+	/**
+	 * writes the buffered games to the file
+	 * @throws IOException in case the archive cannot be written
+	 */
+	public void flush() throws IOException {
+		this.buffer.flip();
+		while (this.buffer.hasRemaining()) {
+			this.channel.write(this.buffer);
+		}
+		this.buffer.clear();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+		} finally {
+			this.channel.close();
+		}
+	}
+
+	private static byte level(Player player) {
+		if (player == null || player.getLevel() == null) {
+			return GameArchiveFormat.NONE;
+		}
+		return (byte) player.getLevel().getValue();
+	}
+
+}
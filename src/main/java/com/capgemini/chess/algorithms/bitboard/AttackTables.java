@@ -0,0 +1,161 @@
+package com.capgemini.chess.algorithms.bitboard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.piece.Pawn;
+
+/**
+ * squares reachable by the pieces whose moves depend only on the start square
+ * (and the colour in case of a pawn), computed once per square as bitboards
+ * together with immutable lists of the same squares
+ *
+ */
+public final class AttackTables {
+
+	private static final int[][] KNIGHT_STEPS = { { 1, 2 }, { 2, 1 }, { 2, -1 }, { 1, -2 }, { -1, -2 }, { -2, -1 },
+			{ -2, 1 }, { -1, 2 } };
+	private static final int[][] KING_STEPS = { { 1, 0 }, { 1, 1 }, { 0, 1 }, { -1, 1 }, { -1, 0 }, { -1, -1 },
+			{ 0, -1 }, { 1, -1 } };
+
+	private static final long[] KNIGHT_ATTACKS = new long[Bitboards.SQUARES];
+	private static final long[] KING_ATTACKS = new long[Bitboards.SQUARES];
+	private static final long[][] PAWN_PUSHES = new long[Color.values().length][Bitboards.SQUARES];
+	private static final long[][] PAWN_CAPTURES = new long[Color.values().length][Bitboards.SQUARES];
+
+	private static final List<List<Coordinate>> KNIGHT_ATTACK_SQUARES;
+	private static final List<List<Coordinate>> KING_ATTACK_SQUARES;
+	private static final List<List<List<Coordinate>>> PAWN_PUSH_SQUARES = new ArrayList<List<List<Coordinate>>>();
+	private static final List<List<List<Coordinate>>> PAWN_CAPTURE_SQUARES = new ArrayList<List<List<Coordinate>>>();
+
+	static {
+		for (int square = 0; square < Bitboards.SQUARES; square++) {
+			int x = Bitboards.fileOf(square);
+			int y = Bitboards.rankOf(square);
+			KNIGHT_ATTACKS[square] = steps(x, y, KNIGHT_STEPS);
+			KING_ATTACKS[square] = steps(x, y, KING_STEPS);
+
+			PAWN_PUSHES[Color.WHITE.ordinal()][square] = step(x, y + 1);
+			if (y == Pawn.WHITE_START_ROW) {
+				PAWN_PUSHES[Color.WHITE.ordinal()][square] |= step(x, y + 2);
+			}
+			PAWN_PUSHES[Color.BLACK.ordinal()][square] = step(x, y - 1);
+			if (y == Pawn.BLACK_START_ROW) {
+				PAWN_PUSHES[Color.BLACK.ordinal()][square] |= step(x, y - 2);
+			}
+			PAWN_CAPTURES[Color.WHITE.ordinal()][square] = step(x - 1, y + 1) | step(x + 1, y + 1);
+			PAWN_CAPTURES[Color.BLACK.ordinal()][square] = step(x - 1, y - 1) | step(x + 1, y - 1);
+		}
+
+		KNIGHT_ATTACK_SQUARES = toSquareLists(KNIGHT_ATTACKS);
+		KING_ATTACK_SQUARES = toSquareLists(KING_ATTACKS);
+		for (Color color : Color.values()) {
+			PAWN_PUSH_SQUARES.add(toSquareLists(PAWN_PUSHES[color.ordinal()]));
+			PAWN_CAPTURE_SQUARES.add(toSquareLists(PAWN_CAPTURES[color.ordinal()]));
+		}
+	}
+
+	private AttackTables() {
+	}
+
+	/**
+	 * @param square index of the start square
+	 * @return bitboard of squares a knight attacks from the square
+	 */
+	public static long knightAttacks(int square) {
+		return KNIGHT_ATTACKS[square];
+	}
+
+	/**
+	 * @param square index of the start square
+	 * @return bitboard of squares a king attacks from the square (castling excluded)
+	 */
+	public static long kingAttacks(int square) {
+		return KING_ATTACKS[square];
+	}
+
+	/**
+	 * @param color colour of the pawn
+	 * @param square index of the start square
+	 * @return bitboard of squares a pawn can move to without capturing (two
+	 *         squares from its start row)
+	 */
+	public static long pawnPushes(Color color, int square) {
+		return PAWN_PUSHES[color.ordinal()][square];
+	}
+
+	/**
+	 * @param color colour of the pawn
+	 * @param square index of the start square
+	 * @return bitboard of squares a pawn attacks (captures on) from the square
+	 */
+	public static long pawnCaptures(Color color, int square) {
+		return PAWN_CAPTURES[color.ordinal()][square];
+	}
+
+	/**
+	 * @param from start square
+	 * @return immutable list of squares a knight attacks from the square
+	 */
+	public static List<Coordinate> knightAttackSquares(Coordinate from) {
+		return KNIGHT_ATTACK_SQUARES.get(Bitboards.squareIndex(from));
+	}
+
+	/**
+	 * @param from start square
+	 * @return immutable list of squares a king attacks from the square
+	 */
+	public static List<Coordinate> kingAttackSquares(Coordinate from) {
+		return KING_ATTACK_SQUARES.get(Bitboards.squareIndex(from));
+	}
+
+	/**
+	 * @param color colour of the pawn
+	 * @param from start square
+	 * @return immutable list of squares a pawn can move to without capturing
+	 */
+	public static List<Coordinate> pawnPushSquares(Color color, Coordinate from) {
+		return PAWN_PUSH_SQUARES.get(color.ordinal()).get(Bitboards.squareIndex(from));
+	}
+
+	/**
+	 * @param color colour of the pawn
+	 * @param from start square
+	 * @return immutable list of squares a pawn captures on from the square
+	 */
+	public static List<Coordinate> pawnCaptureSquares(Color color, Coordinate from) {
+		return PAWN_CAPTURE_SQUARES.get(color.ordinal()).get(Bitboards.squareIndex(from));
+	}
+
+	private static long steps(int x, int y, int[][] steps) {
+		long squares = Bitboards.EMPTY;
+		for (int[] step : steps) {
+			squares |= step(x + step[0], y + step[1]);
+		}
+		return squares;
+	}
+
+	private static long step(int x, int y) {
+		if (x < 0 || x >= Board.SIZE || y < 0 || y >= Board.SIZE) {
+			return Bitboards.EMPTY;
+		}
+		return Bitboards.squareMask(Bitboards.squareIndex(x, y));
+	}
+
+	private static List<List<Coordinate>> toSquareLists(long[] bitboards) {
+		List<List<Coordinate>> squareLists = new ArrayList<List<Coordinate>>(bitboards.length);
+		for (long bitboard : bitboards) {
+			List<Coordinate> squares = new ArrayList<Coordinate>(Long.bitCount(bitboard));
+			for (long rest = bitboard; rest != Bitboards.EMPTY; rest = Bitboards.withoutFirstSquare(rest)) {
+				squares.add(Bitboards.toCoordinate(Bitboards.firstSquare(rest)));
+			}
+			squareLists.add(Collections.unmodifiableList(squares));
+		}
+		return Collections.unmodifiableList(squareLists);
+	}
+
+}
@@ -0,0 +1,96 @@
+package com.capgemini.chess.algorithms.bitboard;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * helper operations on bitboards - 64-bit words with one bit per square of the board
+ * (bit 0 is the square (0, 0), bit 7 is (7, 0) and bit 63 is (7, 7))
+ *
+ */
+public final class Bitboards {
+
+	public static final long EMPTY = 0L;
+	public static final int SQUARES = Board.SIZE * Board.SIZE;
+
+	private Bitboards() {
+	}
+
+	/**
+	 * converts coordinates into the index of a square
+	 * @param x x coordinate of the square
+	 * @param y y coordinate of the square
+	 * @return index of the square (0 - 63)
+	 */
+	public static int squareIndex(int x, int y) {
+		return y * Board.SIZE + x;
+	}
+
+	/**
+	 * converts the coordinate into the index of a square
+	 * @param coordinate coordinate of the square
+	 * @return index of the square (0 - 63)
+	 */
+	public static int squareIndex(Coordinate coordinate) {
+		return squareIndex(coordinate.getX(), coordinate.getY());
+	}
+
+	/**
+	 * converts the index of a square back into a coordinate
+	 * @param square index of the square
+	 * @return coordinate of the square
+	 */
+	public static Coordinate toCoordinate(int square) {
+		return Coordinate.of(fileOf(square), rankOf(square));
+	}
+
+	/**
+	 * @param square index of the square
+	 * @return x coordinate of the square
+	 */
+	public static int fileOf(int square) {
+		return square & (Board.SIZE - 1);
+	}
+
+	/**
+	 * @param square index of the square
+	 * @return y coordinate of the square
+	 */
+	public static int rankOf(int square) {
+		return square >>> 3;
+	}
+
+	/**
+	 * @param square index of the square
+	 * @return bitboard with only the given square set
+	 */
+	public static long squareMask(int square) {
+		return 1L << square;
+	}
+
+	/**
+	 * @param bitboard considered bitboard
+	 * @param square index of the square
+	 * @return true if the square is set on the bitboard, false otherwise
+	 */
+	public static boolean contains(long bitboard, int square) {
+		return (bitboard & squareMask(square)) != 0;
+	}
+
+	/**
+	 * @param bitboard considered bitboard (must not be empty)
+	 * @return index of the lowest square set on the bitboard
+	 */
+	public static int firstSquare(long bitboard) {
+		return Long.numberOfTrailingZeros(bitboard);
+	}
+
+	/**
+	 * @param bitboard considered bitboard
+	 * @return the bitboard without its lowest square
+	 */
+	public static long withoutFirstSquare(long bitboard) {
+		return bitboard & (bitboard - 1);
+	}
+
+}
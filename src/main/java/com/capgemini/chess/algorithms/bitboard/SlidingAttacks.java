@@ -0,0 +1,234 @@
+package com.capgemini.chess.algorithms.bitboard;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * squares attacked by sliding pieces (rook, bishop and queen) for a given
+ * occupancy of the board, looked up in tables indexed by magic multiplication
+ * of the occupied squares relevant for the start square. The magic numbers
+ * were found by a search of sparse random numbers once and are fixed, only the
+ * attack tables are filled at class initialization.
+ *
+ */
+public final class SlidingAttacks {
+
+	private static final int[][] ROOK_DIRECTIONS = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+	private static final int[][] BISHOP_DIRECTIONS = { { 1, 1 }, { 1, -1 }, { -1, 1 }, { -1, -1 } };
+
+	private static final long[] ROOK_MAGICS = {
+			0xA080001820400080L, 0x0040002000401000L, 0x0180300160008008L, 0x0480040800801001L,
+			0x2A00081084204200L, 0x0480018012003400L, 0x0600010082000428L, 0x420002250C018042L,
+			0x0040800040002080L, 0x000040002000500CL, 0x2002004022001080L, 0x0026002200400810L,
+			0x2000808008000400L, 0x0022000200883104L, 0x2C88808001000200L, 0x1112000080420104L,
+			0x0100908000400020L, 0x0080808020004000L, 0x0008410010200300L, 0x0014808010000801L,
+			0x0080050011004800L, 0x00D1010002080400L, 0x3221540021080210L, 0x1000120005288244L,
+			0x020C400080248002L, 0x4020411200220082L, 0x8028100080200881L, 0x1210001100090020L,
+			0x005A005200084520L, 0x0080040080020080L, 0x00D6002200280401L, 0x440B210A00006884L,
+			0x0880401028800080L, 0x2000802008804000L, 0x2160001041002900L, 0x0800080080801000L,
+			0x0444820400800800L, 0x0000040080800200L, 0x0080028104001028L, 0x2808104102000894L,
+			0x0000800100450024L, 0x0000408102020020L, 0x2000200100110044L, 0x0110040008004040L,
+			0x0000080005010010L, 0x0002001088120044L, 0x0008100208040001L, 0x000100008045002AL,
+			0x0001002040800100L, 0x1602209200490200L, 0x1109100020008880L, 0x5000100100200900L,
+			0x0000040080080080L, 0x0003000204000900L, 0x4220080630035400L, 0x6140801100006080L,
+			0x1009234100800039L, 0x8000201200804102L, 0x5004100822004082L, 0x2802000440100822L,
+			0x0801008408001017L, 0x0002000108041062L, 0x8040121108129044L, 0x0400032411008242L };
+	private static final int[] ROOK_SHIFTS = {
+			52, 53, 53, 53, 53, 53, 53, 52,
+			53, 54, 54, 54, 54, 54, 54, 53,
+			53, 54, 54, 54, 54, 54, 54, 53,
+			53, 54, 54, 54, 54, 54, 54, 53,
+			53, 54, 54, 54, 54, 54, 54, 53,
+			53, 54, 54, 54, 54, 54, 54, 53,
+			53, 54, 54, 54, 54, 54, 54, 53,
+			52, 53, 53, 53, 53, 53, 53, 52 };
+	private static final long[] ROOK_MASKS = new long[Bitboards.SQUARES];
+	private static final long[][] ROOK_ATTACKS = new long[Bitboards.SQUARES][];
+
+	private static final long[] BISHOP_MAGICS = {
+			0x01A0C20202002A00L, 0x2320810102008401L, 0x0408820402218000L, 0x10024081010C0040L,
+			0x4104042001041200L, 0x8400902420001100L, 0x001108220220001AL, 0xAA80240208040300L,
+			0x21C8089014080060L, 0x0000020214140090L, 0x0280040C0C104000L, 0x18B0022082084040L,
+			0x4004040420810801L, 0x4448008804402804L, 0x4081091401044000L, 0x20404C8848021008L,
+			0xC251800510100100L, 0x0620200802808200L, 0xA111000206020200L, 0x8001002020408000L,
+			0x0024011084A00006L, 0x202040020110010AL, 0x004A048088042300L, 0x004840A104208C20L,
+			0x0010C82044481000L, 0x0081041208080820L, 0x0040240008004408L, 0x2804010000200880L,
+			0x0504040000410050L, 0x100A008014100090L, 0x8212008007480848L, 0x0021020001328424L,
+			0x0001901000082008L, 0x0A01086000031400L, 0x0030140202440800L, 0x4084820080180480L,
+			0x0081010400C20020L, 0x8010010040020042L, 0x80241804A0360082L, 0x044C009201108440L,
+			0xA104020241301000L, 0x00808C10020B0922L, 0x0012042208000100L, 0x8000004012021041L,
+			0x8082400B02100B00L, 0x0040408808425680L, 0x20621A0441180400L, 0x4022240848808201L,
+			0x0004840120122000L, 0x1000420210420002L, 0xC800404044108100L, 0x4009800A10440000L,
+			0x011D010510440840L, 0x80008A2048408024L, 0x1062024418088201L, 0x3004410809250010L,
+			0x2820818409114080L, 0x0000042402080404L, 0x0200090020841000L, 0x0082090000842408L,
+			0x1010080060024424L, 0x1100600488100100L, 0x0022082204681210L, 0x0140288094008024L };
+	private static final int[] BISHOP_SHIFTS = {
+			58, 59, 59, 59, 59, 59, 59, 58,
+			59, 59, 59, 59, 59, 59, 59, 59,
+			59, 59, 57, 57, 57, 57, 59, 59,
+			59, 59, 57, 55, 55, 57, 59, 59,
+			59, 59, 57, 55, 55, 57, 59, 59,
+			59, 59, 57, 57, 57, 57, 59, 59,
+			59, 59, 59, 59, 59, 59, 59, 59,
+			58, 59, 59, 59, 59, 59, 59, 58 };
+	private static final long[] BISHOP_MASKS = new long[Bitboards.SQUARES];
+	private static final long[][] BISHOP_ATTACKS = new long[Bitboards.SQUARES][];
+
+	private static final long[][] BETWEEN = new long[Bitboards.SQUARES][Bitboards.SQUARES];
+	private static final long[][] LINE = new long[Bitboards.SQUARES][Bitboards.SQUARES];
+
+	static {
+		for (int square = 0; square < Bitboards.SQUARES; square++) {
+			initSquare(square, ROOK_DIRECTIONS, ROOK_MAGICS[square], ROOK_SHIFTS[square], ROOK_MASKS, ROOK_ATTACKS);
+			initSquare(square, BISHOP_DIRECTIONS, BISHOP_MAGICS[square], BISHOP_SHIFTS[square], BISHOP_MASKS,
+					BISHOP_ATTACKS);
+		}
+		for (int from = 0; from < Bitboards.SQUARES; from++) {
+			for (int to = 0; to < Bitboards.SQUARES; to++) {
+				initLine(from, to);
+			}
+		}
+	}
+
+	private SlidingAttacks() {
+	}
+
+	/**
+	 * @param square index of the start square
+	 * @param occupied bitboard of occupied squares
+	 * @return bitboard of squares a rook attacks from the square (the first
+	 *         occupied square in every direction included)
+	 */
+	public static long rookAttacks(int square, long occupied) {
+		return ROOK_ATTACKS[square][index(occupied & ROOK_MASKS[square], ROOK_MAGICS[square], ROOK_SHIFTS[square])];
+	}
+
+	/**
+	 * @param square index of the start square
+	 * @param occupied bitboard of occupied squares
+	 * @return bitboard of squares a bishop attacks from the square (the first
+	 *         occupied square in every direction included)
+	 */
+	public static long bishopAttacks(int square, long occupied) {
+		return BISHOP_ATTACKS[square][index(occupied & BISHOP_MASKS[square], BISHOP_MAGICS[square],
+				BISHOP_SHIFTS[square])];
+	}
+
+	/**
+	 * @param square index of the start square
+	 * @param occupied bitboard of occupied squares
+	 * @return bitboard of squares a queen attacks from the square (the first
+	 *         occupied square in every direction included)
+	 */
+	public static long queenAttacks(int square, long occupied) {
+		return rookAttacks(square, occupied) | bishopAttacks(square, occupied);
+	}
+
+	/**
+	 * @param from index of a square
+	 * @param to index of another square
+	 * @return bitboard of squares strictly between the squares if they lie on
+	 *         a common rank, file or diagonal, empty otherwise
+	 */
+	public static long between(int from, int to) {
+		return BETWEEN[from][to];
+	}
+
+	/**
+	 * @param from index of a square
+	 * @param to index of another square
+	 * @return bitboard of the whole rank, file or diagonal through both
+	 *         squares, empty if they do not lie on a common line
+	 */
+	public static long line(int from, int to) {
+		return LINE[from][to];
+	}
+
+	private static void initLine(int from, int to) {
+		long fromMask = Bitboards.squareMask(from);
+		long toMask = Bitboards.squareMask(to);
+		if (from == to) {
+			return;
+		}
+		if (Bitboards.contains(rookAttacks(from, Bitboards.EMPTY), to)) {
+			BETWEEN[from][to] = rookAttacks(from, toMask) & rookAttacks(to, fromMask);
+			LINE[from][to] = (rookAttacks(from, Bitboards.EMPTY) & rookAttacks(to, Bitboards.EMPTY)) | fromMask
+					| toMask;
+		} else if (Bitboards.contains(bishopAttacks(from, Bitboards.EMPTY), to)) {
+			BETWEEN[from][to] = bishopAttacks(from, toMask) & bishopAttacks(to, fromMask);
+			LINE[from][to] = (bishopAttacks(from, Bitboards.EMPTY) & bishopAttacks(to, Bitboards.EMPTY)) | fromMask
+					| toMask;
+		}
+	}
+
+	private static int index(long relevantOccupied, long magic, int shift) {
+		return (int) ((relevantOccupied * magic) >>> shift);
+	}
+
+	/**
+	 * fills the attack table of the square, every relevant occupancy is mapped
+	 * by the magic number to the entry of its attacks
+	 */
+	private static void initSquare(int square, int[][] directions, long magic, int shift, long[] masks,
+			long[][] attacks) {
+		long mask = relevantOccupancyMask(square, directions);
+		if (shift != Bitboards.SQUARES - Long.bitCount(mask)) {
+			throw new IllegalStateException("Invalid shift of the square " + square + ": " + shift);
+		}
+		long[] table = new long[1 << (Bitboards.SQUARES - shift)];
+		boolean[] used = new boolean[table.length];
+		long occupancy = Bitboards.EMPTY;
+		do {
+			int index = index(occupancy, magic, shift);
+			long squareAttacks = slowAttacks(square, occupancy, directions);
+			if (used[index] && table[index] != squareAttacks) {
+				throw new IllegalStateException("Invalid magic number of the square " + square);
+			}
+			used[index] = true;
+			table[index] = squareAttacks;
+			occupancy = (occupancy - mask) & mask;
+		} while (occupancy != Bitboards.EMPTY);
+		masks[square] = mask;
+		attacks[square] = table;
+	}
+
+	/**
+	 * squares whose occupancy changes the attacks (the last square of every
+	 * direction is always attacked, so it is not relevant)
+	 */
+	private static long relevantOccupancyMask(int square, int[][] directions) {
+		long mask = Bitboards.EMPTY;
+		for (int[] direction : directions) {
+			int x = Bitboards.fileOf(square) + direction[0];
+			int y = Bitboards.rankOf(square) + direction[1];
+			while (isOnBoard(x + direction[0], y + direction[1])) {
+				mask |= Bitboards.squareMask(Bitboards.squareIndex(x, y));
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+		return mask;
+	}
+
+	private static long slowAttacks(int square, long occupied, int[][] directions) {
+		long attacks = Bitboards.EMPTY;
+		for (int[] direction : directions) {
+			int x = Bitboards.fileOf(square) + direction[0];
+			int y = Bitboards.rankOf(square) + direction[1];
+			while (isOnBoard(x, y)) {
+				int target = Bitboards.squareIndex(x, y);
+				attacks |= Bitboards.squareMask(target);
+				if (Bitboards.contains(occupied, target)) {
+					break;
+				}
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+		return attacks;
+	}
+
+	private static boolean isOnBoard(int x, int y) {
+		return x >= 0 && x < Board.SIZE && y >= 0 && y < Board.SIZE;
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.capgemini.chess.algorithms.bitboard;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * random keys used to compute Zobrist hash keys of positions - the key of a position
+ * is a XOR of keys of all pieces on their squares, the castling rights, the file of
+ * the en passant square and the colour to move (keys are generated from a fixed seed,
+ * so they are the same in every run)
+ *
+ */
+public final class Zobrist {
+
+	private static final int PIECE_TYPES = PieceType.values().length;
+	private static final long SEED = 0x5DEECE66DL;
+
+	private static final long[] PIECE_KEYS = new long[Color.values().length * PIECE_TYPES * Bitboards.SQUARES];
+	private static final long[] CASTLING_KEYS = new long[16];
+	private static final long[] EN_PASSANT_KEYS = new long[Board.SIZE];
+	private static final long BLACK_TO_MOVE_KEY;
+
+	static {
+		long state = SEED;
+		for (int i = 0; i < PIECE_KEYS.length; i++) {
+			state += 0x9E3779B97F4A7C15L;
+			PIECE_KEYS[i] = mix(state);
+		}
+		for (int i = 0; i < CASTLING_KEYS.length; i++) {
+			state += 0x9E3779B97F4A7C15L;
+			CASTLING_KEYS[i] = mix(state);
+		}
+		for (int i = 0; i < EN_PASSANT_KEYS.length; i++) {
+			state += 0x9E3779B97F4A7C15L;
+			EN_PASSANT_KEYS[i] = mix(state);
+		}
+		state += 0x9E3779B97F4A7C15L;
+		BLACK_TO_MOVE_KEY = mix(state);
+	}
+
+	private Zobrist() {
+	}
+
+	/**
+	 * @param color colour of the piece
+	 * @param type type of the piece
+	 * @param square index of the square of the piece
+	 * @return key of the piece on the square
+	 */
+	public static long pieceKey(Color color, PieceType type, int square) {
+		return PIECE_KEYS[(color.ordinal() * PIECE_TYPES + type.ordinal()) * Bitboards.SQUARES + square];
+	}
+
+	/**
+	 * @param castlingRights castling rights (flags defined in {@link Board})
+	 * @return key of the castling rights
+	 */
+	public static long castlingKey(int castlingRights) {
+		return CASTLING_KEYS[castlingRights];
+	}
+
+	/**
+	 * @param square index of the en passant square
+	 * @return key of the en passant square (only its file is considered)
+	 */
+	public static long enPassantKey(int square) {
+		return EN_PASSANT_KEYS[Bitboards.fileOf(square)];
+	}
+
+	/**
+	 * @return key XORed into keys of positions with black to move
+	 */
+	public static long blackToMoveKey() {
+		return BLACK_TO_MOVE_KEY;
+	}
+
+	/**
+	 * splitmix64 finalizer
+	 */
+	private static long mix(long value) {
+		long z = value;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+}
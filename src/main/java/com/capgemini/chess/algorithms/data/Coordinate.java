@@ -4,21 +4,50 @@ import com.capgemini.chess.algorithms.data.generated.Board;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
 
 /**
- * Coordinates of Chess Piece.
+ * Coordinates of Chess Piece. Coordinates are immutable, so the instances of
+ * the squares of the board are shared (see {@link #of(int, int)}).
  * 
  * @author Michal Bejm
  *
  */
 public class Coordinate {
 
-	private int x;
-	private int y;
+	private static final Coordinate[] SQUARES = new Coordinate[Board.SIZE * Board.SIZE];
 
+	static {
+		for (int y = 0; y < Board.SIZE; y++) {
+			for (int x = 0; x < Board.SIZE; x++) {
+				SQUARES[y * Board.SIZE + x] = new Coordinate(x, y);
+			}
+		}
+	}
+
+	private final int x;
+	private final int y;
+
+	/**
+	 * creates a new instance, {@link #of(int, int)} should be preferred
+	 */
 	public Coordinate(int x, int y) {
 		this.x = x;
 		this.y = y;
 	}
 
+	/**
+	 * gets the coordinate without allocating it in case it is a square of the
+	 * board
+	 * @param x column
+	 * @param y row
+	 * @return the shared instance of the square or a new instance of an
+	 *         invalid coordinate (outside of the board)
+	 */
+	public static Coordinate of(int x, int y) {
+		if (x >= 0 && x < Board.SIZE && y >= 0 && y < Board.SIZE) {
+			return SQUARES[y * Board.SIZE + x];
+		}
+		return new Coordinate(x, y);
+	}
+
 	/**
 	 * overrides the equals method of Object class to make some tests possible to run
 	 */
@@ -38,6 +67,11 @@ public class Coordinate {
 		return true;
 	}
 
+	@Override
+	public int hashCode() {
+		return 31 * x + y;
+	}
+
 	/**
 	 * validates the coordinates with accordance to the board size
 	 * @throws InvalidMoveException in case of invalid coordinate
@@ -59,20 +93,23 @@ public class Coordinate {
 		return false;
 	}
 
-	public int getX() {
-		return x;
+	/**
+	 * @return the coordinate in the algebraic notation (e.g. "e2")
+	 */
+	@Override
+	public String toString() {
+		if (!(this.isValid())) {
+			return "(" + x + ", " + y + ")";
+		}
+		return String.valueOf((char) ('a' + x)) + (y + 1);
 	}
 
-	public void setX(int x) {
-		this.x = x;
+	public int getX() {
+		return x;
 	}
 
 	public int getY() {
 		return y;
 	}
 
-	public void setY(int y) {
-		this.y = y;
-	}
-
 }
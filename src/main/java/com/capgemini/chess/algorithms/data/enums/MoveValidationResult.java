@@ -0,0 +1,9 @@
+package com.capgemini.chess.algorithms.data.enums;
+
+/**
+ * Results of a move validation
+ * 
+ */
+public enum MoveValidationResult {
+	VALID, INVALID_COORDINATES, EMPTY_START_SQUARE, WRONG_COLOR, INVALID_MOVE, KING_IN_CHECK;
+}
@@ -1,15 +1,27 @@
 package com.capgemini.chess.algorithms.data.generated;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.bitboard.Zobrist;
 import com.capgemini.chess.algorithms.data.Coordinate;
-import com.capgemini.chess.algorithms.move.*;
+import com.capgemini.chess.algorithms.move.Move;
+import com.capgemini.chess.algorithms.move.MoveList;
+import com.capgemini.chess.algorithms.move.PackedMove;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.piece.Piece;
 
 /**
  * Board representation. Board objects are generated based on move history.
+ * Besides the grid of pieces the board keeps bitboards (one per piece type
+ * and colour plus aggregated colour and occupancy masks) and squares of the
+ * kings, which are kept in sync by {@link #setPieceAt(Piece, Coordinate)},
+ * together with the
+ * Zobrist hash key of the position. Keys of positions reached by moves are
+ * recorded, so repeated positions can be found by comparing keys.
  * 
  * @author Michal Bejm
  *
@@ -17,18 +29,115 @@ import com.capgemini.chess.algorithms.piece.Piece;
 public class Board {
 
 	public static final int SIZE = 8;
+	public static final int NO_SQUARE = -1;
+
+	public static final int NO_CASTLING_RIGHTS = 0;
+	public static final int WHITE_KING_SIDE_CASTLING = 1;
+	public static final int WHITE_QUEEN_SIDE_CASTLING = 2;
+	public static final int BLACK_KING_SIDE_CASTLING = 4;
+	public static final int BLACK_QUEEN_SIDE_CASTLING = 8;
+	public static final int ALL_CASTLING_RIGHTS = 15;
+
+	private static final int PIECE_TYPES = PieceType.values().length;
+	private static final int INITIAL_POSITION_KEYS = 128;
 
 	private Piece[][] pieces = new Piece[SIZE][SIZE];
-	private List<Move> moveHistory = new ArrayList<>();
+	private long[] pieceBitboards = new long[Color.values().length * PIECE_TYPES];
+	private long[] colorBitboards = new long[Color.values().length];
+	private long occupied;
+	private int[] kingSquares = { NO_SQUARE, NO_SQUARE };
+	private int castlingRights = ALL_CASTLING_RIGHTS;
+	private int enPassantSquare = NO_SQUARE;
+	private long zobristKey = Zobrist.castlingKey(ALL_CASTLING_RIGHTS);
+	private long[] positionKeys = new long[INITIAL_POSITION_KEYS];
+	private int positionKeysCount;
+	private int sharedPositionKeysCount;
+	private int lastIrreversiblePositionIndex;
+	private int halfmoveClock;
+	private int startPly;
+	private MoveList moveHistory = new MoveList();
 	private BoardState state;
 
 	public Board() {
 	}
 
+	/**
+	 * Creates a copy of the given board, which can be changed independently
+	 * (pieces are shared). The given board is only read, so copies can be
+	 * taken by many threads at once as long as the board is not changed.
+	 * 
+	 * @param board
+	 *            copied board
+	 */
+	public Board(Board board) {
+		this(board, new MoveList(board.moveHistory), board.positionKeys.clone());
+	}
+
+	private Board(Board board, MoveList moveHistory, long[] positionKeys) {
+		for (int x = 0; x < SIZE; x++) {
+			System.arraycopy(board.pieces[x], 0, this.pieces[x], 0, SIZE);
+		}
+		this.pieceBitboards = board.pieceBitboards.clone();
+		this.colorBitboards = board.colorBitboards.clone();
+		this.occupied = board.occupied;
+		this.kingSquares = board.kingSquares.clone();
+		this.castlingRights = board.castlingRights;
+		this.enPassantSquare = board.enPassantSquare;
+		this.zobristKey = board.zobristKey;
+		this.positionKeys = positionKeys;
+		this.positionKeysCount = board.positionKeysCount;
+		this.lastIrreversiblePositionIndex = board.lastIrreversiblePositionIndex;
+		this.halfmoveClock = board.halfmoveClock;
+		this.startPly = board.startPly;
+		this.moveHistory = moveHistory;
+		this.state = board.state;
+	}
+
+	/**
+	 * Creates a copy of the board, which can be changed independently. The
+	 * move history and the recorded positions are shared until either board
+	 * is changed, so the copy costs the same for any number of moves (e.g. for
+	 * snapshots taken after every move). The shared part is marked on this
+	 * board, so the copy must be taken by the thread which changes this board.
+	 * 
+	 * @return copy of the board
+	 */
+	public Board share() {
+		Board copy = new Board(this, moveHistory.share(), positionKeys);
+		copy.sharedPositionKeysCount = Integer.MAX_VALUE;
+		if (sharedPositionKeysCount < positionKeysCount) {
+			sharedPositionKeysCount = positionKeysCount;
+		}
+		return copy;
+	}
+
+	/**
+	 * Gets the move history as move objects, which are unpacked from
+	 * {@link #getPackedMoveHistory()} when they are read (changes of the
+	 * returned list are written to the history)
+	 * 
+	 * @return list of moves performed on the board
+	 */
 	public List<Move> getMoveHistory() {
+		return moveHistory.asMoves();
+	}
+
+	/**
+	 * Gets the move history as packed moves together with the moved pieces
+	 * (see {@link PackedMove#withMovedPiece(int, Piece)})
+	 * 
+	 * @return list of packed moves performed on the board
+	 */
+	public MoveList getPackedMoveHistory() {
 		return moveHistory;
 	}
 
+	/**
+	 * the returned grid must not be modified directly, use
+	 * {@link #setPieceAt(Piece, Coordinate)} to keep bitboards in sync
+	 * 
+	 * @return grid of pieces
+	 */
 	public Piece[][] getPieces() {
 		return pieces;
 	}
@@ -52,7 +161,15 @@ public class Board {
 	 *            given coordinates
 	 */
 	public void setPieceAt(Piece piece, Coordinate coordinate) {
+		int square = Bitboards.squareIndex(coordinate);
+		Piece replacedPiece = pieces[coordinate.getX()][coordinate.getY()];
+		if (replacedPiece != null) {
+			toggleBitboards(replacedPiece, square);
+		}
 		pieces[coordinate.getX()][coordinate.getY()] = piece;
+		if (piece != null) {
+			toggleBitboards(piece, square);
+		}
 	}
 
 	/**
@@ -65,4 +182,254 @@ public class Board {
 	public Piece getPieceAt(Coordinate coordinate) {
 		return pieces[coordinate.getX()][coordinate.getY()];
 	}
+
+	/**
+	 * Gets bitboard of all pieces of given type and colour
+	 * 
+	 * @param color
+	 *            colour of pieces
+	 * @param type
+	 *            type of pieces
+	 * @return bitboard of pieces
+	 */
+	public long getPieceBitboard(Color color, PieceType type) {
+		return pieceBitboards[bitboardIndex(color, type)];
+	}
+
+	/**
+	 * Gets bitboard of all pieces of given colour
+	 * 
+	 * @param color
+	 *            colour of pieces
+	 * @return bitboard of pieces
+	 */
+	public long getColorBitboard(Color color) {
+		return colorBitboards[color.ordinal()];
+	}
+
+	/**
+	 * Gets bitboard of all occupied squares
+	 * 
+	 * @return bitboard of occupied squares
+	 */
+	public long getOccupied() {
+		return occupied;
+	}
+
+	/**
+	 * Gets the square of the king of given colour
+	 * 
+	 * @param color
+	 *            colour of the king
+	 * @return index of the square of the king, {@link #NO_SQUARE} if there
+	 *         is no king of the colour on the board
+	 */
+	public int getKingSquare(Color color) {
+		return kingSquares[color.ordinal()];
+	}
+
+	/**
+	 * Gets number of moves since the last pawn move or capture (used by the
+	 * 50-move rule)
+	 * 
+	 * @return halfmove clock
+	 */
+	public int getHalfmoveClock() {
+		return halfmoveClock;
+	}
+
+	/**
+	 * Sets number of moves since the last pawn move or capture (e.g. when
+	 * the board is restored from a snapshot)
+	 * 
+	 * @param halfmoveClock
+	 *            halfmove clock
+	 */
+	public void setHalfmoveClock(int halfmoveClock) {
+		this.halfmoveClock = halfmoveClock;
+	}
+
+	/**
+	 * Gets number of halfmoves played before the first move of the move
+	 * history (0 if the history starts with the initial position, e.g. 1 if
+	 * the board was set up with black to move in the first turn)
+	 * 
+	 * @return ply of the position the move history starts from
+	 */
+	public int getStartPly() {
+		return startPly;
+	}
+
+	/**
+	 * Sets number of halfmoves played before the first move of the move
+	 * history (e.g. when the board is set up from the FEN notation), the
+	 * parity decides which colour is to move
+	 * 
+	 * @param startPly
+	 *            ply of the position the move history starts from
+	 */
+	public void setStartPly(int startPly) {
+		this.startPly = startPly;
+	}
+
+	/**
+	 * Gets number of halfmoves played so far, including those before the
+	 * move history started
+	 * 
+	 * @return ply of the current position (even if white is to move)
+	 */
+	public int getPly() {
+		return startPly + moveHistory.size();
+	}
+
+	/**
+	 * Gets castling rights which were not lost by moving the king or a rook
+	 * 
+	 * @return combination of castling flags (e.g.
+	 *         {@link #WHITE_KING_SIDE_CASTLING})
+	 */
+	public int getCastlingRights() {
+		return castlingRights;
+	}
+
+	/**
+	 * Sets castling rights
+	 * 
+	 * @param castlingRights
+	 *            combination of castling flags (e.g.
+	 *            {@link #WHITE_KING_SIDE_CASTLING})
+	 */
+	public void setCastlingRights(int castlingRights) {
+		zobristKey ^= Zobrist.castlingKey(this.castlingRights) ^ Zobrist.castlingKey(castlingRights);
+		this.castlingRights = castlingRights;
+	}
+
+	/**
+	 * Gets the en passant target - the square skipped by a pawn which moved
+	 * two steps in the last move
+	 * 
+	 * @return index of the square, {@link #NO_SQUARE} if the last move was
+	 *         not a two steps pawn move
+	 */
+	public int getEnPassantSquare() {
+		return enPassantSquare;
+	}
+
+	/**
+	 * Sets the en passant target
+	 * 
+	 * @param enPassantSquare
+	 *            index of the square skipped by a pawn, {@link #NO_SQUARE} to
+	 *            clear it
+	 */
+	public void setEnPassantSquare(int enPassantSquare) {
+		if (this.enPassantSquare != NO_SQUARE) {
+			zobristKey ^= Zobrist.enPassantKey(this.enPassantSquare);
+		}
+		if (enPassantSquare != NO_SQUARE) {
+			zobristKey ^= Zobrist.enPassantKey(enPassantSquare);
+		}
+		this.enPassantSquare = enPassantSquare;
+	}
+
+	/**
+	 * Gets Zobrist hash key of the current position (pieces, castling rights,
+	 * en passant square and colour to move)
+	 * 
+	 * @return hash key
+	 */
+	public long getZobristKey() {
+		if (getPly() % 2 == 0) {
+			return zobristKey;
+		}
+		return zobristKey ^ Zobrist.blackToMoveKey();
+	}
+
+	/**
+	 * Records the key of the current position
+	 * 
+	 * @param irreversible
+	 *            true if the position cannot be repeated by any position
+	 *            recorded before (e.g. it was reached by a capture)
+	 */
+	public void recordPosition(boolean irreversible) {
+		if (positionKeysCount == positionKeys.length) {
+			positionKeys = Arrays.copyOf(positionKeys, 2 * positionKeys.length);
+			sharedPositionKeysCount = 0;
+		} else if (positionKeysCount < sharedPositionKeysCount) {
+			// the key would overwrite a key of a copy of the board
+			positionKeys = positionKeys.clone();
+			sharedPositionKeysCount = 0;
+		}
+		if (irreversible) {
+			lastIrreversiblePositionIndex = positionKeysCount;
+		}
+		positionKeys[positionKeysCount++] = getZobristKey();
+	}
+
+	/**
+	 * @return number of recorded positions
+	 */
+	public int getRecordedPositionsCount() {
+		return positionKeysCount;
+	}
+
+	/**
+	 * @return index of the last recorded position which cannot be repeated by
+	 *         any position recorded before
+	 */
+	public int getLastIrreversiblePositionIndex() {
+		return lastIrreversiblePositionIndex;
+	}
+
+	/**
+	 * Forgets positions recorded after a move is taken back
+	 * 
+	 * @param recordedPositionsCount
+	 *            number of positions recorded before the move
+	 * @param lastIrreversiblePositionIndex
+	 *            index of the last irreversible position before the move
+	 */
+	public void restoreRecordedPositions(int recordedPositionsCount, int lastIrreversiblePositionIndex) {
+		this.positionKeysCount = recordedPositionsCount;
+		this.lastIrreversiblePositionIndex = lastIrreversiblePositionIndex;
+	}
+
+	/**
+	 * Counts how many times the last recorded position occurred since the
+	 * last irreversible position (only keys are compared)
+	 * 
+	 * @return number of occurrences of the last recorded position, 0 if no
+	 *         position was recorded
+	 */
+	public int countRepetitionsOfLastPosition() {
+		if (positionKeysCount == 0) {
+			return 0;
+		}
+		long lastPositionKey = positionKeys[positionKeysCount - 1];
+		int repetitions = 0;
+		for (int i = positionKeysCount - 1; i >= lastIrreversiblePositionIndex; i--) {
+			if (positionKeys[i] == lastPositionKey) {
+				repetitions++;
+			}
+		}
+		return repetitions;
+	}
+
+	private void toggleBitboards(Piece piece, int square) {
+		long mask = Bitboards.squareMask(square);
+		int color = piece.getColor().ordinal();
+		pieceBitboards[bitboardIndex(piece.getColor(), piece.getType())] ^= mask;
+		colorBitboards[color] ^= mask;
+		occupied ^= mask;
+		zobristKey ^= Zobrist.pieceKey(piece.getColor(), piece.getType(), square);
+		if (piece.getType() == PieceType.KING) {
+			long kings = pieceBitboards[color * PIECE_TYPES + PieceType.KING.ordinal()];
+			kingSquares[color] = kings == Bitboards.EMPTY ? NO_SQUARE : Bitboards.firstSquare(kings);
+		}
+	}
+
+	private static int bitboardIndex(Color color, PieceType type) {
+		return color.ordinal() * PIECE_TYPES + type.ordinal();
+	}
 }
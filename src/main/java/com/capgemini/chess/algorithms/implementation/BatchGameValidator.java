@@ -0,0 +1,154 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidColorException;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+import com.capgemini.chess.algorithms.move.Move;
+
+/**
+ * validates batches of games played from the initial position against the
+ * rules. The games are independent, so the batch is split into shards
+ * validated in parallel by a fork/join pool. Every shard replays its games on
+ * its own board manager (taking the moves back after each game), so no board
+ * is shared between threads.
+ *
+ */
+public class BatchGameValidator {
+
+	private static final int DEFAULT_SHARD_SIZE = 64;
+
+	private final ForkJoinPool pool;
+	private final int shardSize;
+
+	public BatchGameValidator() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param pool pool the shards of games are validated in
+	 */
+	public BatchGameValidator(ForkJoinPool pool) {
+		this(pool, DEFAULT_SHARD_SIZE);
+	}
+
+	/**
+	 * @param pool pool the shards of games are validated in
+	 * @param shardSize maximal number of games validated by a single task
+	 */
+	public BatchGameValidator(ForkJoinPool pool, int shardSize) {
+		if (shardSize < 1) {
+			throw new IllegalArgumentException("The shard size must be positive: " + shardSize);
+		}
+		this.pool = pool;
+		this.shardSize = shardSize;
+	}
+
+	/**
+	 * validates every move of every game as {@link BoardManager#performMove}
+	 * does, a game is validated up to its first illegal move
+	 * @param games games given by their moves (only coordinates and the
+	 *            promotion piece type of the moves are considered)
+	 * @return verdicts of the games in the order of the batch
+	 */
+	public BatchValidationResult validate(List<List<Move>> games) {
+		long start = System.nanoTime();
+		GameVerdict[] verdicts = new GameVerdict[games.size()];
+		long moves = this.pool.invoke(new ShardTask(games, verdicts, 0, games.size()));
+		return new BatchValidationResult(verdicts, moves, System.nanoTime() - start);
+	}
+
+	/**
+	 * validates a single game on the board manager and brings it back to the
+	 * initial position, a move failing with an unexpected exception (e.g. a
+	 * corrupt move without coordinates) fails only its game
+	 * @return number of validated moves
+	 */
+	private static int validateGame(BoardManager boardManager, List<Move> moves, int gameIndex,
+			GameVerdict[] verdicts) {
+		int initialMovesCount = boardManager.getBoard().getPackedMoveHistory().size();
+		int ply = 0;
+		int illegalPly = GameVerdict.NO_ILLEGAL_PLY;
+		String failure = null;
+		try {
+			try {
+				for (; ply < moves.size(); ply++) {
+					Move move = moves.get(ply);
+					if (move.getPromotionPieceType() == null) {
+						boardManager.performMove(move.getFrom(), move.getTo());
+					} else {
+						boardManager.performMove(move.getFrom(), move.getTo(), move.getPromotionPieceType());
+					}
+				}
+			} catch (InvalidMoveException | InvalidColorException | NoKingException e) {
+				illegalPly = ply;
+				failure = e.getMessage();
+			} catch (RuntimeException e) {
+				illegalPly = ply;
+				failure = e.toString();
+			}
+			verdicts[gameIndex] = new GameVerdict(gameIndex, illegalPly, failure, calculateBoardState(boardManager));
+		} finally {
+			while (boardManager.getBoard().getPackedMoveHistory().size() > initialMovesCount) {
+				boardManager.unmakeMove();
+			}
+			boardManager.getBoard().setState(null);
+		}
+		return illegalPly == GameVerdict.NO_ILLEGAL_PLY ? ply : ply + 1;
+	}
+
+	/**
+	 * @return state of the board, null if it cannot be calculated (e.g. there is
+	 *         no king on the board)
+	 */
+	private static BoardState calculateBoardState(BoardManager boardManager) {
+		try {
+			return boardManager.query().calculateBoardState();
+		} catch (NoKingException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * validates a range of games of the batch, splitting it in halves while it is
+	 * larger than the shard size
+	 */
+	private class ShardTask extends RecursiveTask<Long> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<List<Move>> games;
+		private final GameVerdict[] verdicts;
+		private final int from;
+		private final int to;
+
+		private ShardTask(List<List<Move>> games, GameVerdict[] verdicts, int from, int to) {
+			this.games = games;
+			this.verdicts = verdicts;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Long compute() {
+			if (this.to - this.from > BatchGameValidator.this.shardSize) {
+				int middle = (this.from + this.to) >>> 1;
+				ShardTask left = new ShardTask(this.games, this.verdicts, this.from, middle);
+				left.fork();
+				long rightMoves = new ShardTask(this.games, this.verdicts, middle, this.to).compute();
+				return left.join() + rightMoves;
+			}
+			BoardManager boardManager = new BoardManager();
+			long moves = 0;
+			for (int i = this.from; i < this.to; i++) {
+				moves += validateGame(boardManager, this.games.get(i), i, this.verdicts);
+			}
+			return moves;
+		}
+	}
+
+}
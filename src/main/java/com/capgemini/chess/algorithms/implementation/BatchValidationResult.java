@@ -0,0 +1,84 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * result of the validation of a batch of games - verdicts in the order of the
+ * games, together with the time spent
+ *
+ */
+public class BatchValidationResult {
+
+	private final List<GameVerdict> verdicts;
+	private final long moves;
+	private final long elapsedNanos;
+
+	public BatchValidationResult(GameVerdict[] verdicts, long moves, long elapsedNanos) {
+		this.verdicts = Collections.unmodifiableList(Arrays.asList(verdicts));
+		this.moves = moves;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * @return verdicts of the games in the order of the validated batch
+	 */
+	public List<GameVerdict> getVerdicts() {
+		return verdicts;
+	}
+
+	/**
+	 * @return number of games with an illegal move
+	 */
+	public int getIllegalGamesCount() {
+		int illegalGames = 0;
+		for (GameVerdict verdict : verdicts) {
+			if (!(verdict.isLegal())) {
+				illegalGames++;
+			}
+		}
+		return illegalGames;
+	}
+
+	/**
+	 * @return number of moves validated (moves following an illegal one are not
+	 *         validated)
+	 */
+	public long getMoves() {
+		return moves;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * @return number of games validated per second
+	 */
+	public long getGamesPerSecond() {
+		return perSecond(verdicts.size());
+	}
+
+	/**
+	 * @return number of moves validated per second
+	 */
+	public long getMovesPerSecond() {
+		return perSecond(moves);
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder().append(verdicts.size()).append(" games, ").append(getIllegalGamesCount())
+				.append(" illegal, ").append(moves).append(" moves, ").append(getGamesPerSecond())
+				.append(" games/s").toString();
+	}
+
+	private long perSecond(long count) {
+		if (elapsedNanos == 0) {
+			return 0;
+		}
+		return (long) (count * 1_000_000_000.0 / elapsedNanos);
+	}
+
+}
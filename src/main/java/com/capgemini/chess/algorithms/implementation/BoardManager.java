@@ -1,25 +1,26 @@
 package com.capgemini.chess.algorithms.implementation;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.MoveValidationResult;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidColorException;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidFenException;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
 import com.capgemini.chess.algorithms.implementation.exceptions.KingInCheckException;
 import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
-import com.capgemini.chess.algorithms.move.CaptureMove;
 import com.capgemini.chess.algorithms.move.Move;
-import com.capgemini.chess.algorithms.piece.EnPassantPawn;
-import com.capgemini.chess.algorithms.piece.PawnAfterFirstMove;
+import com.capgemini.chess.algorithms.move.MoveList;
+import com.capgemini.chess.algorithms.move.PackedMove;
+import com.capgemini.chess.algorithms.piece.Pawn;
 import com.capgemini.chess.algorithms.piece.Piece;
-import com.capgemini.chess.algorithms.piece.Queen;
 
 /**
  * Class for managing of basic operations on the Chess Board.
@@ -29,7 +30,25 @@ import com.capgemini.chess.algorithms.piece.Queen;
  */
 public class BoardManager {
 
+	private static final int[] CASTLING_RIGHTS_KEPT = new int[Bitboards.SQUARES];
+
+	static {
+		Arrays.fill(CASTLING_RIGHTS_KEPT, Board.ALL_CASTLING_RIGHTS);
+		CASTLING_RIGHTS_KEPT[Bitboards.squareIndex(4, 0)] &= ~(Board.WHITE_KING_SIDE_CASTLING
+				| Board.WHITE_QUEEN_SIDE_CASTLING);
+		CASTLING_RIGHTS_KEPT[Bitboards.squareIndex(7, 0)] &= ~Board.WHITE_KING_SIDE_CASTLING;
+		CASTLING_RIGHTS_KEPT[Bitboards.squareIndex(0, 0)] &= ~Board.WHITE_QUEEN_SIDE_CASTLING;
+		CASTLING_RIGHTS_KEPT[Bitboards.squareIndex(4, Board.SIZE - 1)] &= ~(Board.BLACK_KING_SIDE_CASTLING
+				| Board.BLACK_QUEEN_SIDE_CASTLING);
+		CASTLING_RIGHTS_KEPT[Bitboards.squareIndex(7, Board.SIZE - 1)] &= ~Board.BLACK_KING_SIDE_CASTLING;
+		CASTLING_RIGHTS_KEPT[Bitboards.squareIndex(0, Board.SIZE - 1)] &= ~Board.BLACK_QUEEN_SIDE_CASTLING;
+	}
+
+	private static final int INITIAL_UNDO_STACK_SIZE = 64;
+
 	private Board board = new Board();
+	private UndoRecord[] undoStack = new UndoRecord[INITIAL_UNDO_STACK_SIZE];
+	private int undoStackSize;
 
 	public BoardManager() {
 		new InitBoard(this.board).initBoard();
@@ -38,7 +57,7 @@ public class BoardManager {
 	public BoardManager(List<Move> moves) {
 		new InitBoard(this.board).initBoard();
 		for (Move move : moves) {
-			addMove(move);
+			makeMove(move);
 		}
 	}
 
@@ -46,6 +65,19 @@ public class BoardManager {
 		this.board = board;
 	}
 
+	/**
+	 * Creates the board with the position given in the FEN notation (moves
+	 * which led to the position are not replayed, the move history is empty)
+	 *
+	 * @param fen
+	 *            position in the FEN notation
+	 * @throws InvalidFenException
+	 *             in case the notation cannot be read
+	 */
+	public BoardManager(String fen) throws InvalidFenException {
+		this.board = Fen.parse(fen);
+	}
+
 	/**
 	 * Getter for generated board
 	 *
@@ -55,6 +87,37 @@ public class BoardManager {
 		return this.board;
 	}
 
+	/**
+	 * Writes the current position in the FEN notation
+	 *
+	 * @return position in the FEN notation
+	 */
+	public String toFen() {
+		return Fen.toFen(this.board);
+	}
+
+	/**
+	 * Gives read-only queries on the current position. The queries see the
+	 * moves performed later on, so they must not be run concurrently with
+	 * moves.
+	 *
+	 * @return queries on the board of the manager
+	 */
+	public BoardQuery query() {
+		return new BoardQuery(this.board);
+	}
+
+	/**
+	 * Takes an immutable snapshot of the current position, which is not
+	 * changed by moves performed later on, so it can be read and queried by
+	 * many threads at once (e.g. for spectators) while the game goes on.
+	 *
+	 * @return snapshot of the board
+	 */
+	public BoardSnapshot snapshot() {
+		return new BoardSnapshot(this.board);
+	}
+
 	/**
 	 * Performs move of the chess piece on the chess board from one field to
 	 * another.
@@ -71,37 +134,121 @@ public class BoardManager {
 			throws InvalidMoveException, InvalidColorException, NoKingException {
 
 		Move move = validateMove(from, to);
-		addMove(move);
+		makeMove(move);
 
 		return move;
 	}
 
 	/**
-	 * Calculates state of the chess board.
+	 * Performs move of the chess piece on the chess board from one field to
+	 * another promoting a pawn which reaches the last row to the given piece.
 	 *
-	 * @return state of the chess board
+	 * @param from
+	 *            coordinates of 'from' field
+	 * @param to
+	 *            coordinates of 'to' field
+	 * @param promotionPieceType
+	 *            type of the piece a pawn is promoted to (queen, rook, bishop
+	 *            or knight)
+	 * @return move object which includes moved piece and move type
+	 * @throws InvalidMoveException
+	 *             in case move is not valid
 	 */
-	public BoardState updateBoardState() throws InvalidColorException, NoKingException {
+	public Move performMove(Coordinate from, Coordinate to, PieceType promotionPieceType)
+			throws InvalidMoveException, InvalidColorException, NoKingException {
 
-		Color nextMoveColor = calculateNextMoveColor();
+		if (!(MoveGenerator.PROMOTION_PIECE_TYPES.contains(promotionPieceType))) {
+			throw new InvalidMoveException("A pawn cannot be promoted to " + promotionPieceType + "!");
+		}
+		Move move = validateMove(from, to);
+		if (move.getMovedPiece().getType() == PieceType.PAWN && isLastRow(to)) {
+			move.setPromotionPieceType(promotionPieceType);
+		}
+		makeMove(move);
 
-		boolean isKingInCheck = isKingInCheck(nextMoveColor);
-		boolean isAnyMoveValid = isAnyMoveValid(nextMoveColor);
+		return move;
+	}
 
-		BoardState boardState;
-		if (isKingInCheck) {
-			if (isAnyMoveValid) {
-				boardState = BoardState.CHECK;
-			} else {
-				boardState = BoardState.CHECK_MATE;
-			}
-		} else {
-			if (isAnyMoveValid) {
-				boardState = BoardState.REGULAR;
-			} else {
-				boardState = BoardState.STALE_MATE;
-			}
-		}
+	/**
+	 * Generates all legal moves of the player who is to perform the next move.
+	 * A pawn move to the last row is listed once for every piece type the pawn
+	 * can be promoted to.
+	 *
+	 * @return list of legal moves
+	 */
+	public List<Move> generateLegalMoves() throws InvalidColorException, NoKingException {
+		return query().generateLegalMoves();
+	}
+
+	/**
+	 * Adds all legal moves of the player who is to perform the next move to
+	 * the list in the packed form (see {@link PackedMove}), so the list can be
+	 * reused and no move object is created.
+	 *
+	 * @param legalMoves
+	 *            list the packed moves are added to
+	 */
+	public void generateLegalMoves(MoveList legalMoves) throws NoKingException {
+		query().generateLegalMoves(legalMoves);
+	}
+
+	/**
+	 * Generates all legal moves of the chess piece placed on the given field
+	 * (e.g. to show hints for a player).
+	 *
+	 * @param from
+	 *            coordinates of the field of the piece
+	 * @return list of legal moves, empty if there is no piece of the player who
+	 *         is to perform the next move on the field
+	 */
+	public List<Move> generateLegalMoves(Coordinate from) throws InvalidColorException, NoKingException {
+		return query().generateLegalMoves(from);
+	}
+
+	/**
+	 * Checks if the move of the chess piece from one field to another is valid
+	 * without performing it. In contrary to {@link #performMove} no exception is
+	 * thrown for an invalid move.
+	 *
+	 * @param from
+	 *            coordinates of 'from' field
+	 * @param to
+	 *            coordinates of 'to' field
+	 * @return result of the validation, {@link MoveValidationResult#VALID} if
+	 *         the move can be performed
+	 */
+	public MoveValidationResult checkMove(Coordinate from, Coordinate to)
+			throws InvalidColorException, NoKingException {
+
+		return query().checkMove(from, to);
+	}
+
+	/**
+	 * Checks if the square is attacked by any piece of the given colour
+	 * looking outward from the square along knight, pawn, king and sliding
+	 * piece lines.
+	 *
+	 * @param square
+	 *            coordinates of the considered field
+	 * @param byColor
+	 *            colour of the attacking pieces
+	 * @return true if any piece of the colour attacks the square, false
+	 *         otherwise
+	 */
+	public boolean isSquareAttacked(Coordinate square, Color byColor) {
+		return query().isSquareAttacked(square, byColor);
+	}
+
+	/**
+	 * Calculates state of the chess board and stores it on the board (see
+	 * {@link BoardQuery#calculateBoardState()} to calculate it without
+	 * changing the board).
+	 *
+	 * @return state of the chess board
+	 */
+	public BoardState updateBoardState() throws InvalidColorException, NoKingException {
+
+		BoardState boardState = query().calculateBoardState();
 		this.board.setState(boardState);
 		return boardState;
 	}
@@ -114,24 +261,9 @@ public class BoardManager {
 	 */
 	public boolean checkThreefoldRepetitionRule() {
 
-		// there is no need to check moves that where before last capture/en
-		// passant/castling
-		int lastNonAttackMoveIndex = findLastNonAttackMoveIndex();
-		List<Move> omittedMoves = this.board.getMoveHistory().subList(0, lastNonAttackMoveIndex);
-		BoardManager simulatedBoardManager = new BoardManager(omittedMoves);
-
-		int counter = 0;
-		for (int i = lastNonAttackMoveIndex; i < this.board.getMoveHistory().size(); i++) {
-			Move moveToAdd = this.board.getMoveHistory().get(i);
-			simulatedBoardManager.addMove(moveToAdd);
-			boolean areBoardsEqual = Arrays.deepEquals(this.board.getPieces(),
-					simulatedBoardManager.getBoard().getPieces());
-			if (areBoardsEqual) {
-				counter++;
-			}
-		}
-
-		return counter >= 2;
+		// there is no need to check positions that where before last capture/en
+		// passant/castling, positions are compared by their keys
+		return this.board.countRepetitionsOfLastPosition() >= 3;
 	}
 
 	/**
@@ -145,305 +277,262 @@ public class BoardManager {
 
 		// for this purpose a "move" consists of a player completing his turn
 		// followed by his opponent completing his turn
-		if (this.board.getMoveHistory().size() < 100) {
-			return false;
-		}
-
-		for (int i = this.board.getMoveHistory().size() - 1; i >= this.board.getMoveHistory().size() - 100; i--) {
-			Move currentMove = this.board.getMoveHistory().get(i);
-			PieceType currentPieceType = currentMove.getMovedPiece().getType();
-			if (currentMove.getType() != MoveType.ATTACK || currentPieceType == PieceType.PAWN) {
-				return false;
-			}
-		}
-
-		return true;
+		return this.board.getHalfmoveClock() >= 100;
 	}
 
-	// PRIVATE
-
-	private void addMove(Move move) {
+	/**
+	 * Makes the move on the board without validating it. The state needed to
+	 * take the move back is pushed on the undo stack, so the move can be
+	 * reverted by {@link #unmakeMove()} without copying the board or replaying
+	 * the move history.
+	 *
+	 * @param move
+	 *            valid move
+	 */
+	public void makeMove(Move move) {
+		makeMove(PackedMove.pack(move));
+	}
 
-		addRegularMove(move);
+	/**
+	 * Makes the move given in the packed form (see {@link PackedMove}) on the
+	 * board without validating it, no move object is created.
+	 *
+	 * @param move
+	 *            valid packed move
+	 */
+	public void makeMove(int move) {
 
-		if (move.getType() == MoveType.CASTLING) {
-			addCastling(move);
-		} else if (move.getType() == MoveType.EN_PASSANT) {
-			addEnPassant(move);
+		if (this.board.getRecordedPositionsCount() == 0) {
+			this.board.recordPosition(true);
 		}
 
-		this.board.getMoveHistory().add(move);
+		int from = PackedMove.from(move);
+		int to = PackedMove.to(move);
+		MoveType type = PackedMove.type(move);
 
-		if (isThereAnEnPassantPawnAnywhere()) {
-			getRidOfTheEnPassantPawn();
-		}
+		UndoRecord undo = saveUndoRecord(from, to, type);
 
-		setNewEnPassantPawnIfNeeded();
+		updateHalfmoveClock(type, undo.movedPiece);
 
-		changeFirstMovePawnIntoRegularPawnIfNeeded();
+		addRegularMove(from, to, PackedMove.promotionPieceType(move), undo.movedPiece);
 
-	}
+		if (type == MoveType.CASTLING) {
+			addCastling(from, to);
+		} else if (type == MoveType.EN_PASSANT) {
+			this.board.setPieceAt(null, undo.capturedSquare);
+		}
 
-	private void addRegularMove(Move move) {
-		Piece movedPiece = this.board.getPieceAt(move.getFrom());
-		this.board.setPieceAt(null, move.getFrom());
-		this.board.setPieceAt(movedPiece, move.getTo());
+		this.board.getPackedMoveHistory().add(PackedMove.withMovedPiece(move, undo.movedPiece));
 
-		performPromotion(move, movedPiece);
-	}
+		updateEnPassantSquare(from, to, undo.movedPiece);
 
-	private void performPromotion(Move move, Piece movedPiece) {
-		if (movedPiece.getType() == PieceType.PAWN
-				&& ((move.getTo().getY() == (Board.SIZE - 1)) || (move.getTo().getY() == 0))) {
-			this.board.setPieceAt(new Queen(movedPiece.getColor()), move.getTo());
-		}
-	}
-
-	private void addCastling(Move move) {
-		if (move.getFrom().getX() > move.getTo().getX()) {
-			Piece rook = this.board.getPieceAt(new Coordinate(0, move.getFrom().getY()));
-			this.board.setPieceAt(null, new Coordinate(0, move.getFrom().getY()));
-			this.board.setPieceAt(rook, new Coordinate(move.getTo().getX() + 1, move.getTo().getY()));
-		} else {
-			Piece rook = this.board.getPieceAt(new Coordinate(Board.SIZE - 1, move.getFrom().getY()));
-			this.board.setPieceAt(null, new Coordinate(Board.SIZE - 1, move.getFrom().getY()));
-			this.board.setPieceAt(rook, new Coordinate(move.getTo().getX() - 1, move.getTo().getY()));
-		}
-	}
+		updateCastlingRights(from, to);
 
-	private void addEnPassant(Move move) {
-		Move lastMove = this.board.getMoveHistory().get(this.board.getMoveHistory().size() - 1);
-		this.board.setPieceAt(null, lastMove.getTo());
+		this.board.recordPosition(type != MoveType.ATTACK);
 	}
 
 	/**
-	 * validates the move with accordance to chess rules
-	 * @param from start coordinate of the considering
-	 * @param to end coordinate of the considering move
-	 * @return the move if considered as valid
-	 * @throws InvalidMoveException in case the move is not valid
-	 * @throws KingInCheckException in case of the check on the own king caused by considered move
-	 * @throws InvalidColorException in case of a colour of a piece other then black or white
-	 * @throws NoKingException in case there is no king of a certain colour on the board
+	 * Takes back the last move made by {@link #makeMove(Move)} (or performed by
+	 * {@link #performMove}) restoring the previous state of the board.
+	 *
+	 * @throws IllegalStateException
+	 *             in case there is no move made by this manager to take back
 	 */
-	private Move validateMove(Coordinate from, Coordinate to)
-			throws InvalidMoveException, KingInCheckException, InvalidColorException, NoKingException {
-
-		preValidateMove(from, to);
-
-		Move consideredMove = Move.generateMove(this.board, from, to);
-		consideredMove.setMovedPiece(this.board.getPieceAt(from));
+	public void unmakeMove() {
+		if (this.undoStackSize == 0) {
+			throw new IllegalStateException("There is no move to take back!");
+		}
+		UndoRecord undo = this.undoStack[--this.undoStackSize];
+		int move = this.board.getPackedMoveHistory().removeLast();
+		int from = PackedMove.from(move);
+		int to = PackedMove.to(move);
 
-		consideredMove.validateMoveWithoutConsideringCheck(this.board);
+		if (PackedMove.type(move) == MoveType.CASTLING) {
+			takeBackCastling(from, to);
+		}
 
-		if (consideredMove.getType() == MoveType.CASTLING) {
-			checkIfKingWouldBeInCheckOnItsWayForCastling(consideredMove);
-		} else {
-			checkIfKingWouldBeInCheck(consideredMove);
+		this.board.setPieceAt(null, Bitboards.toCoordinate(to));
+		this.board.setPieceAt(undo.movedPiece, Bitboards.toCoordinate(from));
+		if (undo.capturedPiece != null) {
+			this.board.setPieceAt(undo.capturedPiece, undo.capturedSquare);
 		}
 
-		return consideredMove;
-	}
+		this.board.setEnPassantSquare(undo.enPassantSquare);
+		this.board.setCastlingRights(undo.castlingRights);
+		this.board.setHalfmoveClock(undo.halfmoveClock);
+		this.board.restoreRecordedPositions(undo.recordedPositionsCount, undo.lastIrreversiblePositionIndex);
 
-	private void preValidateMove(Coordinate from, Coordinate to) throws InvalidMoveException {
-		from.coordinateValidator();
-		to.coordinateValidator();
-		startSquareValidator(from);
-		nextTurnColorValidator(from);
+		assert this.board.getZobristKey() == undo.zobristKey;
 	}
 
-	private void nextTurnColorValidator(Coordinate from) throws InvalidMoveException {
-		if (this.board.getPieceAt(from).getColor() != calculateNextMoveColor()) {
-			throw new InvalidMoveException("Next color to perform move is" + calculateNextMoveColor() + "!");
+	// PRIVATE
+
+	/**
+	 * pushes the state which is lost by making the move on the undo stack
+	 * (records are reused, so making a move does not allocate them once the
+	 * stack is deep enough)
+	 */
+	private UndoRecord saveUndoRecord(int from, int to, MoveType type) {
+		if (this.undoStackSize == this.undoStack.length) {
+			this.undoStack = Arrays.copyOf(this.undoStack, 2 * this.undoStack.length);
 		}
-	}
+		UndoRecord undo = this.undoStack[this.undoStackSize];
+		if (undo == null) {
+			undo = new UndoRecord();
+			this.undoStack[this.undoStackSize] = undo;
+		}
+		this.undoStackSize++;
 
-	private void startSquareValidator(Coordinate from) throws InvalidMoveException {
-		if (this.board.getPieceAt(from) == null || this.board.getPieceAt(from).getType() == PieceType.EN_PASSANT_PAWN) {
-			throw new InvalidMoveException("The start square is empty!");
+		undo.movedPiece = this.board.getPieceAt(Bitboards.toCoordinate(from));
+		if (type == MoveType.EN_PASSANT) {
+			undo.capturedSquare = Coordinate.of(Bitboards.fileOf(to), Bitboards.rankOf(from));
+		} else {
+			undo.capturedSquare = Bitboards.toCoordinate(to);
+		}
+		if (type == MoveType.CAPTURE || type == MoveType.EN_PASSANT) {
+			undo.capturedPiece = this.board.getPieceAt(undo.capturedSquare);
+		} else {
+			undo.capturedPiece = null;
 		}
+		undo.enPassantSquare = this.board.getEnPassantSquare();
+		undo.castlingRights = this.board.getCastlingRights();
+		undo.halfmoveClock = this.board.getHalfmoveClock();
+		undo.zobristKey = this.board.getZobristKey();
+		undo.recordedPositionsCount = this.board.getRecordedPositionsCount();
+		undo.lastIrreversiblePositionIndex = this.board.getLastIrreversiblePositionIndex();
+		return undo;
 	}
 
-	private void tempPiecesSwap(Coordinate from, Coordinate to) {
-		this.board.setPieceAt(this.board.getPieceAt(from), to);
-		this.board.setPieceAt(null, from);
-	}
+	private void addRegularMove(int from, int to, PieceType promotionPieceType, Piece movedPiece) {
+		Coordinate toCoordinate = Bitboards.toCoordinate(to);
+		this.board.setPieceAt(null, Bitboards.toCoordinate(from));
+		this.board.setPieceAt(movedPiece, toCoordinate);
 
-	private void checkIfKingWouldBeInCheck(Move move)
-			throws InvalidColorException, NoKingException, InvalidMoveException {
-		tempPiecesSwap(move.getFrom(), move.getTo());
-		if (isKingInCheck(move.getMovedPiece().getColor())) {
-			tempPiecesSwap(move.getTo(), move.getFrom());
-			throw new KingInCheckException();
-		}
-		tempPiecesSwap(move.getTo(), move.getFrom());
+		performPromotion(toCoordinate, promotionPieceType, movedPiece);
 	}
 
-	private void checkIfKingWouldBeInCheckOnItsWayForCastling(Move move)
-			throws InvalidMoveException, InvalidColorException, NoKingException {
-		Coordinate tempTo = new Coordinate(move.getFrom().getX(), move.getFrom().getY());
-		int direction = (move.getTo().getX() - move.getFrom().getX())
-				/ Math.abs(move.getTo().getX() - move.getFrom().getX());
-
-		for (int i = 1; i <= Math.abs(move.getTo().getX() - move.getFrom().getX()); i++) {
-			tempTo.setX(move.getFrom().getX() + i * direction);
-			tempPiecesSwap(move.getFrom(), tempTo);
-			if (isKingInCheck(this.board.getPieceAt(tempTo).getColor())) {
-				tempPiecesSwap(tempTo, move.getFrom());
-				throw new KingInCheckException();
+	private void performPromotion(Coordinate to, PieceType promotionPieceType, Piece movedPiece) {
+		if (movedPiece.getType() == PieceType.PAWN && isLastRow(to)) {
+			if (promotionPieceType == null) {
+				promotionPieceType = PieceType.QUEEN;
 			}
-			tempPiecesSwap(tempTo, move.getFrom());
+			this.board.setPieceAt(Piece.createPiece(promotionPieceType, movedPiece.getColor()), to);
 		}
 	}
 
-	private boolean isKingInCheck(Color kingColor) throws InvalidColorException, NoKingException {
-		Coordinate positionOfKing = findTheKing(kingColor);
-		for (Coordinate square : findAllPiecesOfColor(oppositeColor(kingColor))) {
-			Move move = new CaptureMove(square, positionOfKing);
-			try {
-				move.validateMoveWithoutConsideringCheck(this.board);
-				return true;
-			} catch (InvalidMoveException e) {
-				continue;
-			}
-		}
-		return false;
-	}
-
-	private List<Coordinate> findAllPiecesOfColor(Color color) {
-		List<Coordinate> allPiecesOfColor = new ArrayList<Coordinate>();
-		for (int i = 0; i < Board.SIZE; i++) {
-			for (int j = 0; j < Board.SIZE; j++) {
-				Coordinate square = new Coordinate(i, j);
-				Piece currentPiece = this.board.getPieceAt(square);
-				if (currentPiece != null && currentPiece.getColor().equals(color)) {
-					allPiecesOfColor.add(square);
-				}
-				if (allPiecesOfColor.size() == 2 * Board.SIZE) {
-					return allPiecesOfColor;
-				}
-			}
-		}
-		return allPiecesOfColor;
-	}
-
-	private Coordinate findTheKing(Color color) throws NoKingException {
-		for (int i = 0; i < Board.SIZE; i++) {
-			for (int j = 0; j < Board.SIZE; j++) {
-				Coordinate square = new Coordinate(i, j);
-				Piece currentPiece = this.board.getPieceAt(square);
-				if (currentPiece != null && currentPiece.getType().equals(PieceType.KING)
-						&& currentPiece.getColor().equals(color)) {
-					return square;
-				}
-			}
-		}
-		throw new NoKingException();
+	private boolean isLastRow(Coordinate square) {
+		return square.getY() == (Board.SIZE - 1) || square.getY() == 0;
 	}
 
-	private Color oppositeColor(Color color) throws InvalidColorException {
-		if (color == Color.WHITE) {
-			return Color.BLACK;
-		}
-		if (color == Color.BLACK) {
-			return Color.WHITE;
-		}
-		throw new InvalidColorException();
-	}
-
-	private boolean isAnyMoveValid(Color nextMoveColor) throws InvalidColorException, NoKingException {
-		List<Coordinate> locationOfPieces = findAllPiecesOfColor(nextMoveColor);
-		for (Coordinate pieceLocation : locationOfPieces) {
-			for (int i = 0; i < Board.SIZE; i++) {
-				for (int j = 0; j < Board.SIZE; j++) {
-					try {
-						validateMove(pieceLocation, new Coordinate(i, j));
-						return true;
-					} catch (InvalidMoveException e) {
-						continue;
-					}
-				}
-			}
+	/**
+	 * resets the halfmove clock on a pawn move or a capture, increments it otherwise
+	 * (needs to be called before the move is added)
+	 */
+	private void updateHalfmoveClock(MoveType type, Piece movedPiece) {
+		if (type == MoveType.CAPTURE || type == MoveType.EN_PASSANT || movedPiece.getType() == PieceType.PAWN) {
+			this.board.setHalfmoveClock(0);
+		} else {
+			this.board.setHalfmoveClock(this.board.getHalfmoveClock() + 1);
 		}
-
-		return false;
 	}
 
-	private Color calculateNextMoveColor() {
-		if (this.board.getMoveHistory().size() % 2 == 0) {
-			return Color.WHITE;
-		} else {
-			return Color.BLACK;
+	/**
+	 * takes the castling rights away if the king or a rook leaves its start
+	 * square or a piece is captured on it
+	 */
+	private void updateCastlingRights(int from, int to) {
+		int castlingRights = this.board.getCastlingRights();
+		if (castlingRights != Board.NO_CASTLING_RIGHTS) {
+			castlingRights &= CASTLING_RIGHTS_KEPT[from] & CASTLING_RIGHTS_KEPT[to];
+			this.board.setCastlingRights(castlingRights);
 		}
 	}
 
-	private int findLastNonAttackMoveIndex() {
-		int counter = 0;
-		int lastNonAttackMoveIndex = 0;
-
-		for (Move move : this.board.getMoveHistory()) {
-			if (move.getType() != MoveType.ATTACK) {
-				lastNonAttackMoveIndex = counter;
-			}
-			counter++;
+	private void addCastling(int from, int to) {
+		int y = Bitboards.rankOf(from);
+		if (from > to) {
+			Piece rook = this.board.getPieceAt(Coordinate.of(0, y));
+			this.board.setPieceAt(null, Coordinate.of(0, y));
+			this.board.setPieceAt(rook, Coordinate.of(Bitboards.fileOf(to) + 1, y));
+		} else {
+			Piece rook = this.board.getPieceAt(Coordinate.of(Board.SIZE - 1, y));
+			this.board.setPieceAt(null, Coordinate.of(Board.SIZE - 1, y));
+			this.board.setPieceAt(rook, Coordinate.of(Bitboards.fileOf(to) - 1, y));
 		}
-		return lastNonAttackMoveIndex;
 	}
 
-	private boolean isThereAnEnPassantPawnAnywhere() {
-		for (int i = 0; i < Board.SIZE; i++) {
-			for (int j = 0; j < Board.SIZE; j++) {
-				Coordinate square = new Coordinate(i, j);
-				if (this.board.getPieceAt(square) != null
-						&& this.board.getPieceAt(square).getType() == PieceType.EN_PASSANT_PAWN) {
-					return true;
-				}
-			}
+	private void takeBackCastling(int from, int to) {
+		int y = Bitboards.rankOf(from);
+		if (from > to) {
+			Coordinate rookSquare = Coordinate.of(Bitboards.fileOf(to) + 1, y);
+			Piece rook = this.board.getPieceAt(rookSquare);
+			this.board.setPieceAt(null, rookSquare);
+			this.board.setPieceAt(rook, Coordinate.of(0, y));
+		} else {
+			Coordinate rookSquare = Coordinate.of(Bitboards.fileOf(to) - 1, y);
+			Piece rook = this.board.getPieceAt(rookSquare);
+			this.board.setPieceAt(null, rookSquare);
+			this.board.setPieceAt(rook, Coordinate.of(Board.SIZE - 1, y));
 		}
-		return false;
 	}
 
 	/**
-	 * deletes the EnPassantPawn object if it was not captured in one turn of the game
+	 * validates the move with accordance to chess rules
+	 * @param from start coordinate of the considering
+	 * @param to end coordinate of the considering move
+	 * @return the move if considered as valid
+	 * @throws InvalidMoveException in case the move is not valid
+	 * @throws KingInCheckException in case of the check on the own king caused by considered move
+	 * @throws InvalidColorException in case of a colour of a piece other then black or white
+	 * @throws NoKingException in case there is no king of a certain colour on the board
 	 */
-	private void getRidOfTheEnPassantPawn() {
-		for (int i = 0; i < Board.SIZE; i++) {
-			for (int j = 0; j < Board.SIZE; j++) {
-				Coordinate square = new Coordinate(i, j);
-				if (this.board.getPieceAt(square) != null
-						&& this.board.getPieceAt(square).getType() == PieceType.EN_PASSANT_PAWN) {
-					this.board.setPieceAt(null, square);
-					break;
-				}
-			}
-		}
+	private Move validateMove(Coordinate from, Coordinate to)
+			throws InvalidMoveException, KingInCheckException, InvalidColorException, NoKingException {
+
+		BoardQuery query = query();
+		throwIfInvalid(query.preCheckMove(from, to));
+
+		Move consideredMove = query.generateConsideredMove(from, to);
+
+		throwIfInvalid(query.checkMove(consideredMove));
+
+		return consideredMove;
 	}
 
 	/**
-	 * sets an artificial representation of a piece on the board, 
-	 * so it can be captured in next turn in case of ae En Passant move
+	 * translates the result of a move validation into the exception thrown by {@link #performMove}
+	 * @param result result of the move validation
+	 * @throws InvalidMoveException in case the result is other than valid
 	 */
-	private void setNewEnPassantPawnIfNeeded() {
-		Move lastMove = this.board.getMoveHistory().get(this.board.getMoveHistory().size() - 1);
-		int lastMoveLength = lastMove.getTo().getY() - lastMove.getFrom().getY();
-		if (lastMove.getType() == MoveType.ATTACK && lastMove.getMovedPiece() != null
-				&& lastMove.getMovedPiece().getType() == PieceType.PAWN && Math.abs(lastMoveLength) == 2) {
-			Piece shadowPawn = new EnPassantPawn(lastMove.getMovedPiece().getColor());
-			Coordinate shadowPawnLocation = new Coordinate(lastMove.getFrom().getX(),
-					lastMove.getFrom().getY() + lastMoveLength / 2);
-			this.board.setPieceAt(shadowPawn, shadowPawnLocation);
+	private void throwIfInvalid(MoveValidationResult result) throws InvalidMoveException {
+		switch (result) {
+		case VALID:
+			return;
+		case INVALID_COORDINATES:
+			throw new InvalidMoveException("The coordinates of the move are invalid!");
+		case EMPTY_START_SQUARE:
+			throw new InvalidMoveException("The start square is empty!");
+		case WRONG_COLOR:
+			throw new InvalidMoveException("Next color to perform move is" + query().getNextMoveColor() + "!");
+		case KING_IN_CHECK:
+			throw new KingInCheckException();
+		default:
+			throw new InvalidMoveException();
 		}
 	}
 
 	/**
-	 * change the Pawn object, that can perform a two steps attack 
-	 * into a regular pawn after its first move
+	 * sets the square skipped by a pawn moving two steps from its start row as
+	 * the en passant target, so the pawn can be captured in the next turn of
+	 * the game, clears the target otherwise
 	 */
-	private void changeFirstMovePawnIntoRegularPawnIfNeeded() {
-		Move lastMove = this.board.getMoveHistory().get(this.board.getMoveHistory().size() - 1);
-		if (lastMove.getType() == MoveType.ATTACK && lastMove.getMovedPiece() != null
-				&& lastMove.getMovedPiece().getType() == PieceType.PAWN) {
-			this.board.setPieceAt(new PawnAfterFirstMove(lastMove.getMovedPiece().getColor()), lastMove.getTo());
+	private void updateEnPassantSquare(int from, int to, Piece movedPiece) {
+		int moveLength = Bitboards.rankOf(to) - Bitboards.rankOf(from);
+		int startRow = movedPiece.getColor() == Color.WHITE ? Pawn.WHITE_START_ROW : Pawn.BLACK_START_ROW;
+		if (movedPiece.getType() == PieceType.PAWN && Math.abs(moveLength) == 2 && Bitboards.rankOf(from) == startRow) {
+			this.board.setEnPassantSquare((from + to) / 2);
+		} else {
+			this.board.setEnPassantSquare(Board.NO_SQUARE);
 		}
 	}
 
@@ -0,0 +1,170 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveValidationResult;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidColorException;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+import com.capgemini.chess.algorithms.move.Move;
+import com.capgemini.chess.algorithms.move.MoveList;
+import com.capgemini.chess.algorithms.piece.Piece;
+
+/**
+ * read-only queries on a position - checks, legal moves and the state of the
+ * board. No query changes the board, so a query over a board which is not
+ * changed any more (see {@link BoardSnapshot#query()}) can be used by
+ * many threads at once.
+ *
+ */
+public class BoardQuery {
+
+	private final Board board;
+
+	/**
+	 * @param board board the queries are run on (the query is thread-safe only
+	 *            as long as the board is not changed)
+	 */
+	public BoardQuery(Board board) {
+		this.board = board;
+	}
+
+	/**
+	 * @return colour of the player who is to perform the next move
+	 */
+	public Color getNextMoveColor() {
+		return this.board.getPly() % 2 == 0 ? Color.WHITE : Color.BLACK;
+	}
+
+	/**
+	 * @return true if the king of the player who is to perform the next move is
+	 *         in check
+	 */
+	public boolean isCheck() throws NoKingException {
+		return new MoveGenerator(this.board, getNextMoveColor()).isInCheck();
+	}
+
+	/**
+	 * calculates the state of the board without storing it on the board (see
+	 * {@link BoardManager#updateBoardState()})
+	 * @return state of the board
+	 */
+	public BoardState calculateBoardState() throws NoKingException {
+		MoveGenerator moveGenerator = new MoveGenerator(this.board, getNextMoveColor());
+		boolean isKingInCheck = moveGenerator.isInCheck();
+		boolean isAnyMoveValid = moveGenerator.hasLegalMove();
+
+		if (isKingInCheck) {
+			return isAnyMoveValid ? BoardState.CHECK : BoardState.CHECK_MATE;
+		}
+		return isAnyMoveValid ? BoardState.REGULAR : BoardState.STALE_MATE;
+	}
+
+	/**
+	 * @see BoardManager#generateLegalMoves()
+	 */
+	public List<Move> generateLegalMoves() throws NoKingException {
+		return new MoveGenerator(this.board, getNextMoveColor()).generateLegalMoves();
+	}
+
+	/**
+	 * @see BoardManager#generateLegalMoves(MoveList)
+	 */
+	public void generateLegalMoves(MoveList legalMoves) throws NoKingException {
+		new MoveGenerator(this.board, getNextMoveColor()).generateLegalMoves(legalMoves);
+	}
+
+	/**
+	 * @see BoardManager#generateLegalMoves(Coordinate)
+	 */
+	public List<Move> generateLegalMoves(Coordinate from) throws NoKingException {
+		if (preCheckMove(from, from) != MoveValidationResult.VALID) {
+			return new ArrayList<Move>();
+		}
+		return new MoveGenerator(this.board, getNextMoveColor()).generateLegalMoves(from);
+	}
+
+	/**
+	 * @param from coordinates of the field of the piece
+	 * @return fields the piece can be legally moved to, empty if there is no
+	 *         piece of the player who is to perform the next move on the field
+	 */
+	public List<Coordinate> getLegalDestinations(Coordinate from) throws NoKingException {
+		List<Coordinate> destinations = new ArrayList<Coordinate>();
+		if (preCheckMove(from, from) != MoveValidationResult.VALID) {
+			return destinations;
+		}
+		MoveGenerator moveGenerator = new MoveGenerator(this.board, getNextMoveColor());
+		for (long squares = moveGenerator.legalDestinations(Bitboards.squareIndex(from)); squares != Bitboards.EMPTY;
+				squares = Bitboards.withoutFirstSquare(squares)) {
+			destinations.add(Bitboards.toCoordinate(Bitboards.firstSquare(squares)));
+		}
+		return destinations;
+	}
+
+	/**
+	 * @see BoardManager#checkMove(Coordinate, Coordinate)
+	 */
+	public MoveValidationResult checkMove(Coordinate from, Coordinate to) throws InvalidColorException, NoKingException {
+		MoveValidationResult result = preCheckMove(from, to);
+		if (result != MoveValidationResult.VALID) {
+			return result;
+		}
+		return checkMove(generateConsideredMove(from, to));
+	}
+
+	/**
+	 * @see BoardManager#isSquareAttacked(Coordinate, Color)
+	 */
+	public boolean isSquareAttacked(Coordinate square, Color byColor) {
+		return MoveGenerator.isSquareAttacked(this.board, Bitboards.squareIndex(square), byColor,
+				this.board.getOccupied());
+	}
+
+	Move generateConsideredMove(Coordinate from, Coordinate to) {
+		Move consideredMove = Move.generateMove(this.board, from, to);
+		consideredMove.setMovedPiece(this.board.getPieceAt(from));
+		return consideredMove;
+	}
+
+	MoveValidationResult preCheckMove(Coordinate from, Coordinate to) {
+		if (!(from.isValid()) || !(to.isValid())) {
+			return MoveValidationResult.INVALID_COORDINATES;
+		}
+		Piece movedPiece = this.board.getPieceAt(from);
+		if (movedPiece == null) {
+			return MoveValidationResult.EMPTY_START_SQUARE;
+		}
+		if (movedPiece.getColor() != getNextMoveColor()) {
+			return MoveValidationResult.WRONG_COLOR;
+		}
+		return MoveValidationResult.VALID;
+	}
+
+	/**
+	 * a move which is valid without considering the check is rejected if it is
+	 * not among the legal moves of the piece, as a check of the king only if
+	 * the king would be attacked after it (or passes an attacked square when
+	 * castling)
+	 */
+	MoveValidationResult checkMove(Move consideredMove) throws InvalidColorException, NoKingException {
+		if (!(consideredMove.isValidWithoutConsideringCheck(this.board))) {
+			return MoveValidationResult.INVALID_MOVE;
+		}
+
+		MoveGenerator moveGenerator = new MoveGenerator(this.board, consideredMove.getMovedPiece().getColor());
+		int from = Bitboards.squareIndex(consideredMove.getFrom());
+		int to = Bitboards.squareIndex(consideredMove.getTo());
+		if (!(Bitboards.contains(moveGenerator.legalDestinations(from), to))) {
+			return moveGenerator.exposesKing(from, to, consideredMove.getType()) ? MoveValidationResult.KING_IN_CHECK
+					: MoveValidationResult.INVALID_MOVE;
+		}
+		return MoveValidationResult.VALID;
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.move.Move;
+import com.capgemini.chess.algorithms.piece.Piece;
+
+/**
+ * immutable position published by {@link BoardManager#snapshot()}. The
+ * snapshot keeps a private copy of the board, which shares the move history
+ * and the recorded positions with the board of the manager (they are copied
+ * only when a shared move is overwritten), so a snapshot costs the same for
+ * any number of moves. It can be shared by any number of threads without
+ * copying.
+ *
+ */
+public final class BoardSnapshot {
+
+	private final Board board;
+	private final BoardQuery query;
+	private final List<Move> moveHistory;
+
+	BoardSnapshot(Board board) {
+		this.board = board.share();
+		this.query = new BoardQuery(this.board);
+		this.moveHistory = Collections.unmodifiableList(this.board.getMoveHistory());
+	}
+
+	/**
+	 * @return read-only queries on the position
+	 */
+	public BoardQuery query() {
+		return this.query;
+	}
+
+	public Piece getPieceAt(Coordinate coordinate) {
+		return this.board.getPieceAt(coordinate);
+	}
+
+	public Color getNextMoveColor() {
+		return this.query.getNextMoveColor();
+	}
+
+	/**
+	 * @return state of the board calculated before the snapshot was taken, null
+	 *         if it was not calculated for the position
+	 */
+	public BoardState getState() {
+		return this.board.getState();
+	}
+
+	/**
+	 * @return moves performed on the board (the list cannot be changed)
+	 */
+	public List<Move> getMoveHistory() {
+		return this.moveHistory;
+	}
+
+	/**
+	 * @return packed move (see {@link com.capgemini.chess.algorithms.move.PackedMove})
+	 *         performed as the given one on the board
+	 */
+	public int getPackedMove(int index) {
+		return this.board.getPackedMoveHistory().get(index);
+	}
+
+	public int getMovesCount() {
+		return this.board.getPackedMoveHistory().size();
+	}
+
+	public int getPly() {
+		return this.board.getPly();
+	}
+
+	public int getHalfmoveClock() {
+		return this.board.getHalfmoveClock();
+	}
+
+	public int getCastlingRights() {
+		return this.board.getCastlingRights();
+	}
+
+	public int getEnPassantSquare() {
+		return this.board.getEnPassantSquare();
+	}
+
+	public long getZobristKey() {
+		return this.board.getZobristKey();
+	}
+
+	/**
+	 * @return true if the position occurred three times (see
+	 *         {@link BoardManager#checkThreefoldRepetitionRule()})
+	 */
+	public boolean isThreefoldRepetition() {
+		return this.board.countRepetitionsOfLastPosition() >= 3;
+	}
+
+	public String toFen() {
+		return Fen.toFen(this.board);
+	}
+
+	/**
+	 * @return a new board manager the game can be continued on from the
+	 *         position (e.g. for analysis), it does not change the snapshot
+	 */
+	public BoardManager toBoardManager() {
+		return new BoardManager(new Board(this.board));
+	}
+
+}
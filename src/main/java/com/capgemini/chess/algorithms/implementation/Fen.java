@@ -0,0 +1,333 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidFenException;
+import com.capgemini.chess.algorithms.piece.Piece;
+
+/**
+ * reads and writes boards in the Forsyth-Edwards notation (piece placement,
+ * colour to move, castling rights, en passant target, halfmove clock and
+ * fullmove number), so a position can be restored without replaying the
+ * moves which led to it
+ *
+ */
+public final class Fen {
+
+	public static final String INITIAL_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+	/**
+	 * symbols of black pieces in the order of {@link PieceType}, white pieces
+	 * use upper case
+	 */
+	private static final String PIECE_SYMBOLS = "kqbnrp";
+	private static final String CASTLING_SYMBOLS = "KQkq";
+	private static final int[] CASTLING_FLAGS = { Board.WHITE_KING_SIDE_CASTLING, Board.WHITE_QUEEN_SIDE_CASTLING,
+			Board.BLACK_KING_SIDE_CASTLING, Board.BLACK_QUEEN_SIDE_CASTLING };
+
+	private static final char SEPARATOR = ' ';
+	private static final char RANK_SEPARATOR = '/';
+	private static final char NONE = '-';
+	private static final char WHITE_TO_MOVE = 'w';
+	private static final char BLACK_TO_MOVE = 'b';
+
+	/**
+	 * first and last rank, no pawn can stand there
+	 */
+	private static final long PROMOTION_RANKS = 0xFF000000000000FFL;
+
+	private Fen() {
+	}
+
+	/**
+	 * Creates a board with the position given in the FEN notation. The
+	 * halfmove clock and the fullmove number may be omitted (0 and 1 are
+	 * assumed then).
+	 *
+	 * @param fen
+	 *            position in the FEN notation
+	 * @return board with the position and an empty move history
+	 * @throws InvalidFenException
+	 *             in case the notation cannot be read
+	 */
+	public static Board parse(String fen) throws InvalidFenException {
+		if (fen == null) {
+			throw new InvalidFenException("The notation is empty!");
+		}
+		Board board = new Board();
+		Reader reader = new Reader(fen);
+
+		readPlacement(reader, board);
+		checkPlacement(board);
+		reader.skipSeparator();
+		int sideToMove = readSideToMove(reader);
+		reader.skipSeparator();
+		board.setCastlingRights(readCastlingRights(reader));
+		reader.skipSeparator();
+		board.setEnPassantSquare(readEnPassantSquare(reader, sideToMove));
+
+		int fullmoveNumber = 1;
+		if (reader.hasFieldAfterSeparator()) {
+			reader.skipSeparator();
+			board.setHalfmoveClock(reader.readNumber());
+			if (reader.hasFieldAfterSeparator()) {
+				reader.skipSeparator();
+				fullmoveNumber = reader.readNumber();
+				if (fullmoveNumber < 1) {
+					throw new InvalidFenException("The fullmove number must be positive!");
+				}
+			}
+		}
+		reader.skipTrailingSeparators();
+		if (reader.hasNext()) {
+			throw new InvalidFenException("Unexpected characters after the fullmove number!");
+		}
+		board.setStartPly(2 * (fullmoveNumber - 1) + sideToMove);
+		return board;
+	}
+
+	/**
+	 * Writes the position of the board in the FEN notation
+	 *
+	 * @param board
+	 *            chess board
+	 * @return position in the FEN notation
+	 */
+	public static String toFen(Board board) {
+		StringBuilder fen = new StringBuilder(90);
+		Piece[][] pieces = board.getPieces();
+		for (int y = Board.SIZE - 1; y >= 0; y--) {
+			int emptySquares = 0;
+			for (int x = 0; x < Board.SIZE; x++) {
+				Piece piece = pieces[x][y];
+				if (piece == null) {
+					emptySquares++;
+					continue;
+				}
+				if (emptySquares > 0) {
+					fen.append((char) ('0' + emptySquares));
+					emptySquares = 0;
+				}
+				fen.append(pieceSymbol(piece));
+			}
+			if (emptySquares > 0) {
+				fen.append((char) ('0' + emptySquares));
+			}
+			if (y > 0) {
+				fen.append(RANK_SEPARATOR);
+			}
+		}
+
+		int ply = board.getPly();
+		fen.append(SEPARATOR).append(ply % 2 == 0 ? WHITE_TO_MOVE : BLACK_TO_MOVE).append(SEPARATOR);
+
+		int castlingRights = board.getCastlingRights();
+		if (castlingRights == Board.NO_CASTLING_RIGHTS) {
+			fen.append(NONE);
+		}
+		for (int i = 0; i < CASTLING_FLAGS.length; i++) {
+			if ((castlingRights & CASTLING_FLAGS[i]) != 0) {
+				fen.append(CASTLING_SYMBOLS.charAt(i));
+			}
+		}
+		fen.append(SEPARATOR);
+
+		int enPassantSquare = board.getEnPassantSquare();
+		if (enPassantSquare == Board.NO_SQUARE) {
+			fen.append(NONE);
+		} else {
+			fen.append(Bitboards.toCoordinate(enPassantSquare));
+		}
+
+		fen.append(SEPARATOR).append(board.getHalfmoveClock());
+		fen.append(SEPARATOR).append(ply / 2 + 1);
+		return fen.toString();
+	}
+
+	private static void readPlacement(Reader reader, Board board) throws InvalidFenException {
+		int x = 0;
+		int y = Board.SIZE - 1;
+		while (reader.hasNext() && reader.peek() != SEPARATOR) {
+			char symbol = reader.next();
+			if (symbol == RANK_SEPARATOR) {
+				if (x != Board.SIZE || y == 0) {
+					throw new InvalidFenException("Rank " + (y + 1) + " does not have " + Board.SIZE + " squares!");
+				}
+				x = 0;
+				y--;
+			} else if (symbol >= '1' && symbol <= '8') {
+				x += symbol - '0';
+				if (x > Board.SIZE) {
+					throw new InvalidFenException("Rank " + (y + 1) + " has too many squares!");
+				}
+			} else {
+				int type = PIECE_SYMBOLS.indexOf(Character.toLowerCase(symbol));
+				if (type < 0) {
+					throw new InvalidFenException("Unknown piece '" + symbol + "'!");
+				}
+				if (x >= Board.SIZE) {
+					throw new InvalidFenException("Rank " + (y + 1) + " has too many squares!");
+				}
+				Color color = Character.isUpperCase(symbol) ? Color.WHITE : Color.BLACK;
+				board.setPieceAt(Piece.createPiece(PIECE_TYPES[type], color), Coordinate.of(x, y));
+				x++;
+			}
+		}
+		if (x != Board.SIZE || y != 0) {
+			throw new InvalidFenException("The piece placement does not describe the whole board!");
+		}
+	}
+
+	/**
+	 * rejects placements the move generation cannot handle: each side needs
+	 * exactly one king and pawns must not stand on the first or the last rank
+	 */
+	private static void checkPlacement(Board board) throws InvalidFenException {
+		for (Color color : Color.values()) {
+			int kings = Long.bitCount(board.getPieceBitboard(color, PieceType.KING));
+			if (kings != 1) {
+				throw new InvalidFenException("There must be exactly one " + color + " king, found " + kings + "!");
+			}
+			if ((board.getPieceBitboard(color, PieceType.PAWN) & PROMOTION_RANKS) != Bitboards.EMPTY) {
+				throw new InvalidFenException("A " + color + " pawn stands on the first or the last rank!");
+			}
+		}
+	}
+
+	/**
+	 * @return 0 if white is to move, 1 if black is to move
+	 */
+	private static int readSideToMove(Reader reader) throws InvalidFenException {
+		char symbol = reader.next();
+		reader.expectEndOfField();
+		if (symbol == WHITE_TO_MOVE) {
+			return 0;
+		}
+		if (symbol == BLACK_TO_MOVE) {
+			return 1;
+		}
+		throw new InvalidFenException("Unknown colour to move '" + symbol + "'!");
+	}
+
+	private static int readCastlingRights(Reader reader) throws InvalidFenException {
+		if (reader.peek() == NONE) {
+			reader.next();
+			reader.expectEndOfField();
+			return Board.NO_CASTLING_RIGHTS;
+		}
+		int castlingRights = Board.NO_CASTLING_RIGHTS;
+		while (reader.hasNext() && reader.peek() != SEPARATOR) {
+			char symbol = reader.next();
+			int index = CASTLING_SYMBOLS.indexOf(symbol);
+			if (index < 0 || (castlingRights & CASTLING_FLAGS[index]) != 0) {
+				throw new InvalidFenException("Invalid castling rights symbol '" + symbol + "'!");
+			}
+			castlingRights |= CASTLING_FLAGS[index];
+		}
+		return castlingRights;
+	}
+
+	/**
+	 * the target lies behind a pawn of the colour which is not to move
+	 */
+	private static int readEnPassantSquare(Reader reader, int sideToMove) throws InvalidFenException {
+		char file = reader.next();
+		if (file == NONE) {
+			reader.expectEndOfField();
+			return Board.NO_SQUARE;
+		}
+		char rank = reader.next();
+		reader.expectEndOfField();
+		int expectedRank = sideToMove == 0 ? Board.SIZE - 3 : 2;
+		if (file < 'a' || file >= 'a' + Board.SIZE || rank - '1' != expectedRank) {
+			throw new InvalidFenException("Invalid en passant square '" + file + rank + "'!");
+		}
+		return Bitboards.squareIndex(file - 'a', expectedRank);
+	}
+
+	private static char pieceSymbol(Piece piece) {
+		char symbol = PIECE_SYMBOLS.charAt(piece.getType().ordinal());
+		return piece.getColor() == Color.WHITE ? Character.toUpperCase(symbol) : symbol;
+	}
+
+	/**
+	 * reads fields of the notation character by character without splitting
+	 * the string
+	 */
+	private static final class Reader {
+
+		private final String fen;
+		private int position;
+
+		private Reader(String fen) {
+			this.fen = fen;
+		}
+
+		private boolean hasNext() {
+			return position < fen.length();
+		}
+
+		private char peek() throws InvalidFenException {
+			if (!hasNext()) {
+				throw new InvalidFenException("Unexpected end of the notation!");
+			}
+			return fen.charAt(position);
+		}
+
+		private char next() throws InvalidFenException {
+			char symbol = peek();
+			position++;
+			return symbol;
+		}
+
+		private void expectEndOfField() throws InvalidFenException {
+			if (hasNext() && fen.charAt(position) != SEPARATOR) {
+				throw new InvalidFenException("Unexpected '" + fen.charAt(position) + "' at " + position + "!");
+			}
+		}
+
+		private void skipSeparator() throws InvalidFenException {
+			if (next() != SEPARATOR) {
+				throw new InvalidFenException("Fields must be separated by spaces!");
+			}
+			while (hasNext() && fen.charAt(position) == SEPARATOR) {
+				position++;
+			}
+		}
+
+		private void skipTrailingSeparators() {
+			while (hasNext() && fen.charAt(position) == SEPARATOR) {
+				position++;
+			}
+		}
+
+		private boolean hasFieldAfterSeparator() {
+			int next = position;
+			while (next < fen.length() && fen.charAt(next) == SEPARATOR) {
+				next++;
+			}
+			return next > position && next < fen.length();
+		}
+
+		private int readNumber() throws InvalidFenException {
+			int number = 0;
+			int digits = 0;
+			while (hasNext() && fen.charAt(position) != SEPARATOR) {
+				char digit = fen.charAt(position++);
+				if (digit < '0' || digit > '9' || ++digits > 6) {
+					throw new InvalidFenException("Invalid number at " + (position - 1) + "!");
+				}
+				number = 10 * number + digit - '0';
+			}
+			if (digits == 0) {
+				throw new InvalidFenException("A number is missing at " + position + "!");
+			}
+			return number;
+		}
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+
+/**
+ * verdict of the validation of a single game - the first move which breaks the
+ * rules (if any) and the state of the board after the last valid move
+ *
+ */
+public class GameVerdict {
+
+	public static final int NO_ILLEGAL_PLY = -1;
+
+	private final int gameIndex;
+	private final int firstIllegalPly;
+	private final String failure;
+	private final BoardState boardState;
+
+	public GameVerdict(int gameIndex, int firstIllegalPly, String failure, BoardState boardState) {
+		this.gameIndex = gameIndex;
+		this.firstIllegalPly = firstIllegalPly;
+		this.failure = failure;
+		this.boardState = boardState;
+	}
+
+	/**
+	 * @return index of the game in the validated batch
+	 */
+	public int getGameIndex() {
+		return gameIndex;
+	}
+
+	/**
+	 * @return true if all moves of the game are legal
+	 */
+	public boolean isLegal() {
+		return firstIllegalPly == NO_ILLEGAL_PLY;
+	}
+
+	/**
+	 * @return index of the first illegal move in the game,
+	 *         {@link #NO_ILLEGAL_PLY} if all moves are legal
+	 */
+	public int getFirstIllegalPly() {
+		return firstIllegalPly;
+	}
+
+	/**
+	 * @return message of the exception thrown by the first illegal move, null if
+	 *         all moves are legal
+	 */
+	public String getFailure() {
+		return failure;
+	}
+
+	/**
+	 * @return state of the board after the last legal move, null if it could not
+	 *         be calculated (e.g. there is no king on the board)
+	 */
+	public BoardState getBoardState() {
+		return boardState;
+	}
+
+	@Override
+	public String toString() {
+		if (isLegal()) {
+			return "game " + gameIndex + ": legal, " + boardState;
+		}
+		return "game " + gameIndex + ": illegal ply " + firstIllegalPly + " (" + failure + "), " + boardState;
+	}
+
+}
@@ -28,30 +28,30 @@ public class InitBoard {
 	 */
 	public void initBoard() {
 
-		this.board.setPieceAt(new Rook(Color.BLACK), new Coordinate(0, 7));
-		this.board.setPieceAt(new Knight(Color.BLACK), new Coordinate(1, 7));
-		this.board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(2, 7));
-		this.board.setPieceAt(new Queen(Color.BLACK), new Coordinate(3, 7));
-		this.board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
-		this.board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(5, 7));
-		this.board.setPieceAt(new Knight(Color.BLACK), new Coordinate(6, 7));
-		this.board.setPieceAt(new Rook(Color.BLACK), new Coordinate(7, 7));
+		this.board.setPieceAt(new Rook(Color.BLACK), Coordinate.of(0, 7));
+		this.board.setPieceAt(new Knight(Color.BLACK), Coordinate.of(1, 7));
+		this.board.setPieceAt(new Bishop(Color.BLACK), Coordinate.of(2, 7));
+		this.board.setPieceAt(new Queen(Color.BLACK), Coordinate.of(3, 7));
+		this.board.setPieceAt(new King(Color.BLACK), Coordinate.of(4, 7));
+		this.board.setPieceAt(new Bishop(Color.BLACK), Coordinate.of(5, 7));
+		this.board.setPieceAt(new Knight(Color.BLACK), Coordinate.of(6, 7));
+		this.board.setPieceAt(new Rook(Color.BLACK), Coordinate.of(7, 7));
 
 		for (int x = 0; x < Board.SIZE; x++) {
-			this.board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(x, 6));
+			this.board.setPieceAt(new Pawn(Color.BLACK), Coordinate.of(x, 6));
 		}
 
-		this.board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
-		this.board.setPieceAt(new Knight(Color.WHITE), new Coordinate(1, 0));
-		this.board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(2, 0));
-		this.board.setPieceAt(new Queen(Color.WHITE), new Coordinate(3, 0));
-		this.board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
-		this.board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(5, 0));
-		this.board.setPieceAt(new Knight(Color.WHITE), new Coordinate(6, 0));
-		this.board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		this.board.setPieceAt(new Rook(Color.WHITE), Coordinate.of(0, 0));
+		this.board.setPieceAt(new Knight(Color.WHITE), Coordinate.of(1, 0));
+		this.board.setPieceAt(new Bishop(Color.WHITE), Coordinate.of(2, 0));
+		this.board.setPieceAt(new Queen(Color.WHITE), Coordinate.of(3, 0));
+		this.board.setPieceAt(new King(Color.WHITE), Coordinate.of(4, 0));
+		this.board.setPieceAt(new Bishop(Color.WHITE), Coordinate.of(5, 0));
+		this.board.setPieceAt(new Knight(Color.WHITE), Coordinate.of(6, 0));
+		this.board.setPieceAt(new Rook(Color.WHITE), Coordinate.of(7, 0));
 
 		for (int x = 0; x < Board.SIZE; x++) {
-			this.board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(x, 1));
+			this.board.setPieceAt(new Pawn(Color.WHITE), Coordinate.of(x, 1));
 		}
 	}
 }
@@ -0,0 +1,405 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.bitboard.AttackTables;
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.bitboard.SlidingAttacks;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+import com.capgemini.chess.algorithms.move.Move;
+import com.capgemini.chess.algorithms.move.MoveList;
+import com.capgemini.chess.algorithms.move.PackedMove;
+import com.capgemini.chess.algorithms.piece.Piece;
+
+/**
+ * generates legal moves of one player in the current position. The pieces
+ * checking the king of the player and the pieces pinned to it are found once
+ * when the generator is created, so only legal moves are emitted: when the
+ * king is in check the other pieces may only capture the checking piece or
+ * block its line, pinned pieces move only along the line of the pin and the
+ * king avoids attacked squares. No move is made on the board. A generator can
+ * be set to another position by {@link #setPosition(Board, Color)}, so a
+ * search can keep one generator per ply instead of creating one per node.
+ *
+ */
+public class MoveGenerator {
+
+	static final List<PieceType> PROMOTION_PIECE_TYPES = Arrays.asList(PieceType.QUEEN, PieceType.ROOK,
+			PieceType.BISHOP, PieceType.KNIGHT);
+
+	private static final long ALL_SQUARES = ~Bitboards.EMPTY;
+	private static final int KING_START_FILE = 4;
+
+	private Board board;
+	private Color color;
+	private Color opponentColor;
+	private int kingSquare;
+	private long ownPieces;
+	private long opponentPieces;
+	private long occupied;
+	private long checkers;
+	private long checkMask;
+	private long pinned;
+
+	/**
+	 * creates a generator which must be set to a position by
+	 * {@link #setPosition(Board, Color)} before it is used
+	 */
+	public MoveGenerator() {
+	}
+
+	/**
+	 * @param board current situation on the board (it is not changed)
+	 * @param color colour of the player the moves are generated for
+	 * @throws NoKingException in case there is no king of the colour on the board
+	 */
+	public MoveGenerator(Board board, Color color) throws NoKingException {
+		setPosition(board, color);
+	}
+
+	/**
+	 * sets the generator to the position, the board must not be changed while
+	 * the moves of the position are generated
+	 * @param board current situation on the board (it is not changed)
+	 * @param color colour of the player the moves are generated for
+	 * @throws NoKingException in case there is no king of the colour on the board
+	 */
+	public void setPosition(Board board, Color color) throws NoKingException {
+		this.board = board;
+		this.color = color;
+		this.opponentColor = color == Color.WHITE ? Color.BLACK : Color.WHITE;
+		this.kingSquare = board.getKingSquare(color);
+		if (this.kingSquare == Board.NO_SQUARE) {
+			throw new NoKingException();
+		}
+		this.ownPieces = board.getColorBitboard(color);
+		this.opponentPieces = board.getColorBitboard(this.opponentColor);
+		this.occupied = board.getOccupied();
+
+		this.checkers = attackers(board, this.kingSquare, this.opponentColor, this.occupied);
+		if (this.checkers == Bitboards.EMPTY) {
+			this.checkMask = ALL_SQUARES;
+		} else if (Bitboards.withoutFirstSquare(this.checkers) == Bitboards.EMPTY) {
+			int checker = Bitboards.firstSquare(this.checkers);
+			this.checkMask = this.checkers | SlidingAttacks.between(this.kingSquare, checker);
+		} else {
+			// only the king can escape a double check
+			this.checkMask = Bitboards.EMPTY;
+		}
+		this.pinned = findPinnedPieces();
+	}
+
+	/**
+	 * checks if the square is attacked by any piece of the given colour
+	 * @param board current situation on the board
+	 * @param square index of the considered square
+	 * @param byColor colour of the attacking pieces
+	 * @param occupied occupied squares the sliding pieces are stopped by (pieces
+	 *            outside of it do not attack)
+	 * @return true if the square is attacked, false otherwise
+	 */
+	public static boolean isSquareAttacked(Board board, int square, Color byColor, long occupied) {
+		return attackers(board, square, byColor, occupied) != Bitboards.EMPTY;
+	}
+
+	/**
+	 * @return true if the king of the player is in check, false otherwise
+	 */
+	public boolean isInCheck() {
+		return this.checkers != Bitboards.EMPTY;
+	}
+
+	/**
+	 * @return true if the player has any legal move, false otherwise
+	 */
+	public boolean hasLegalMove() {
+		for (long pieces = this.ownPieces; pieces != Bitboards.EMPTY; pieces = Bitboards.withoutFirstSquare(pieces)) {
+			if (legalDestinations(Bitboards.firstSquare(pieces)) != Bitboards.EMPTY) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * generates all legal moves of the player, a pawn move to the last row is
+	 * listed once for every piece type the pawn can be promoted to
+	 * @return list of legal moves
+	 */
+	public List<Move> generateLegalMoves() {
+		MoveList legalMoves = new MoveList();
+		generateLegalMoves(legalMoves);
+		return toMoves(legalMoves);
+	}
+
+	/**
+	 * adds all legal moves of the player to the list in the packed form, no
+	 * move object is created
+	 * @param legalMoves list the packed moves are added to
+	 */
+	public void generateLegalMoves(MoveList legalMoves) {
+		for (long pieces = this.ownPieces; pieces != Bitboards.EMPTY; pieces = Bitboards.withoutFirstSquare(pieces)) {
+			addLegalMoves(Bitboards.firstSquare(pieces), legalMoves);
+		}
+	}
+
+	/**
+	 * generates legal moves of the piece of the player placed on the given field
+	 * @param from coordinates of the field of the piece
+	 * @return list of legal moves, empty if there is no piece of the player on the field
+	 */
+	public List<Move> generateLegalMoves(Coordinate from) {
+		MoveList legalMoves = new MoveList();
+		int square = Bitboards.squareIndex(from);
+		if (Bitboards.contains(this.ownPieces, square)) {
+			addLegalMoves(square, legalMoves);
+		}
+		return toMoves(legalMoves);
+	}
+
+	/**
+	 * finds the squares the piece of the player can legally move to
+	 * @param from index of the square of the piece
+	 * @return bitboard of destination squares, empty if there is no piece of the
+	 *         player on the square
+	 */
+	public long legalDestinations(int from) {
+		Piece piece = this.board.getPieceAt(Bitboards.toCoordinate(from));
+		if (piece == null || piece.getColor() != this.color) {
+			return Bitboards.EMPTY;
+		}
+		if (piece.getType() == PieceType.KING) {
+			return kingDestinations(from);
+		}
+
+		long destinations = pseudoLegalDestinations(piece.getType(), from) & this.checkMask;
+		if (Bitboards.contains(this.pinned, from)) {
+			destinations &= SlidingAttacks.line(this.kingSquare, from);
+		}
+		if (piece.getType() == PieceType.PAWN && isEnPassantLegal(from)) {
+			destinations |= Bitboards.squareMask(this.board.getEnPassantSquare());
+		}
+		return destinations;
+	}
+
+	private void addLegalMoves(int from, MoveList legalMoves) {
+		Piece piece = this.board.getPieceAt(Bitboards.toCoordinate(from));
+		PieceType pieceType = piece.getType();
+		for (long destinations = legalDestinations(from); destinations != Bitboards.EMPTY; destinations = Bitboards
+				.withoutFirstSquare(destinations)) {
+			int to = Bitboards.firstSquare(destinations);
+			MoveType type = moveType(pieceType, from, to);
+			int y = Bitboards.rankOf(to);
+			if (pieceType == PieceType.PAWN && (y == 0 || y == Board.SIZE - 1)) {
+				for (PieceType promotionPieceType : PROMOTION_PIECE_TYPES) {
+					legalMoves.add(PackedMove.of(from, to, type, promotionPieceType));
+				}
+			} else {
+				legalMoves.add(PackedMove.of(from, to, type, null));
+			}
+		}
+	}
+
+	/**
+	 * the same type as {@link Move#generateMove} gives for the move
+	 */
+	private MoveType moveType(PieceType pieceType, int from, int to) {
+		if (Bitboards.contains(this.opponentPieces, to)) {
+			return MoveType.CAPTURE;
+		}
+		if (pieceType == PieceType.KING && Math.abs(to - from) == 2) {
+			return MoveType.CASTLING;
+		}
+		if (pieceType == PieceType.PAWN && to == this.board.getEnPassantSquare()
+				&& Bitboards.fileOf(from) != Bitboards.fileOf(to)) {
+			return MoveType.EN_PASSANT;
+		}
+		return MoveType.ATTACK;
+	}
+
+	/**
+	 * unpacks the moves adding the moved pieces from the board
+	 */
+	private List<Move> toMoves(MoveList packedMoves) {
+		List<Move> moves = new ArrayList<Move>(packedMoves.size());
+		for (int i = 0; i < packedMoves.size(); i++) {
+			Move move = PackedMove.toMove(packedMoves.get(i));
+			move.setMovedPiece(this.board.getPieceAt(move.getFrom()));
+			moves.add(move);
+		}
+		return moves;
+	}
+
+	/**
+	 * squares the piece could move to without considering the check of its king
+	 * (en passant excluded)
+	 */
+	private long pseudoLegalDestinations(PieceType type, int from) {
+		switch (type) {
+		case ROOK:
+			return SlidingAttacks.rookAttacks(from, this.occupied) & ~this.ownPieces;
+		case BISHOP:
+			return SlidingAttacks.bishopAttacks(from, this.occupied) & ~this.ownPieces;
+		case QUEEN:
+			return SlidingAttacks.queenAttacks(from, this.occupied) & ~this.ownPieces;
+		case KNIGHT:
+			return AttackTables.knightAttacks(from) & ~this.ownPieces;
+		case PAWN:
+			return pawnDestinations(from);
+		default:
+			return Bitboards.EMPTY;
+		}
+	}
+
+	private long pawnDestinations(int from) {
+		int step = this.color == Color.WHITE ? Board.SIZE : -Board.SIZE;
+		long pushes = Bitboards.EMPTY;
+		if (!(Bitboards.contains(this.occupied, from + step))) {
+			// the two steps push is blocked by a piece on the skipped square
+			pushes = AttackTables.pawnPushes(this.color, from) & ~this.occupied;
+		}
+		return pushes | (AttackTables.pawnCaptures(this.color, from) & this.opponentPieces);
+	}
+
+	/**
+	 * the king may go to squares which are not attacked once it leaves its
+	 * square (sliding pieces are not stopped by the king itself) and castle
+	 * when it is not in check and does not cross an attacked square
+	 */
+	private long kingDestinations(int from) {
+		long occupiedWithoutKing = this.occupied & ~Bitboards.squareMask(from);
+		long destinations = Bitboards.EMPTY;
+		for (long candidates = AttackTables.kingAttacks(from) & ~this.ownPieces; candidates != Bitboards.EMPTY; candidates = Bitboards
+				.withoutFirstSquare(candidates)) {
+			int to = Bitboards.firstSquare(candidates);
+			if (!(isSquareAttacked(this.board, to, this.opponentColor, occupiedWithoutKing))) {
+				destinations |= Bitboards.squareMask(to);
+			}
+		}
+		if (this.checkers == Bitboards.EMPTY) {
+			destinations |= castlingDestination(from, true) | castlingDestination(from, false);
+		}
+		return destinations;
+	}
+
+	/**
+	 * the same rules as {@link com.capgemini.chess.algorithms.move.CastlingMove}
+	 * checks, read from the castling rights and the bitboards (the rook must
+	 * stand on its start square, as the rights of a board set up by hand may
+	 * not reflect the pieces)
+	 */
+	private long castlingDestination(int from, boolean kingSide) {
+		int homeRank = this.color == Color.WHITE ? 0 : Board.SIZE - 1;
+		if ((this.board.getCastlingRights() & castlingRight(kingSide)) == 0
+				|| from != Bitboards.squareIndex(KING_START_FILE, homeRank)) {
+			return Bitboards.EMPTY;
+		}
+		int rookSquare = Bitboards.squareIndex(kingSide ? Board.SIZE - 1 : 0, homeRank);
+		if (!(Bitboards.contains(this.board.getPieceBitboard(this.color, PieceType.ROOK), rookSquare))
+				|| (SlidingAttacks.between(from, rookSquare) & this.occupied) != Bitboards.EMPTY) {
+			return Bitboards.EMPTY;
+		}
+		int direction = kingSide ? 1 : -1;
+		if (isSquareAttacked(this.board, from + direction, this.opponentColor, this.occupied)
+				|| isSquareAttacked(this.board, from + 2 * direction, this.opponentColor, this.occupied)) {
+			return Bitboards.EMPTY;
+		}
+		return Bitboards.squareMask(from + 2 * direction);
+	}
+
+	private int castlingRight(boolean kingSide) {
+		if (this.color == Color.WHITE) {
+			return kingSide ? Board.WHITE_KING_SIDE_CASTLING : Board.WHITE_QUEEN_SIDE_CASTLING;
+		}
+		return kingSide ? Board.BLACK_KING_SIDE_CASTLING : Board.BLACK_QUEEN_SIDE_CASTLING;
+	}
+
+	/**
+	 * tells why a move of the player is left out of the legal moves: the king
+	 * would stand in check after it or, for the castling, the king is in check
+	 * or passes an attacked square
+	 * @param from index of the start square
+	 * @param to index of the end square
+	 * @param type type of the move
+	 * @return true if the move fails because of the king, false otherwise
+	 */
+	boolean exposesKing(int from, int to, MoveType type) {
+		if (type == MoveType.CASTLING) {
+			int passedSquare = (from + to) / 2;
+			return this.checkers != Bitboards.EMPTY
+					|| isSquareAttacked(this.board, passedSquare, this.opponentColor, this.occupied)
+					|| isSquareAttacked(this.board, to, this.opponentColor, this.occupied);
+		}
+		int capturedSquare = type == MoveType.EN_PASSANT
+				? Bitboards.squareIndex(Bitboards.fileOf(to), Bitboards.rankOf(from)) : to;
+		long occupiedAfter = (this.occupied & ~Bitboards.squareMask(from) & ~Bitboards.squareMask(capturedSquare))
+				| Bitboards.squareMask(to);
+		int kingSquareAfter = from == this.kingSquare ? to : this.kingSquare;
+		long attackersAfter = attackers(this.board, kingSquareAfter, this.opponentColor, occupiedAfter)
+				& ~Bitboards.squareMask(to);
+		return attackersAfter != Bitboards.EMPTY;
+	}
+
+	/**
+	 * en passant removes two pawns from the row of the king at once, so it is
+	 * checked against the occupancy after the capture instead of the pins
+	 */
+	private boolean isEnPassantLegal(int from) {
+		int target = this.board.getEnPassantSquare();
+		if (target == Board.NO_SQUARE || !(Bitboards.contains(AttackTables.pawnCaptures(this.color, from), target))) {
+			return false;
+		}
+		int capturedSquare = Bitboards.squareIndex(Bitboards.fileOf(target), Bitboards.rankOf(from));
+		if (!(Bitboards.contains(this.board.getPieceBitboard(this.opponentColor, PieceType.PAWN), capturedSquare))) {
+			return false;
+		}
+		long occupiedAfterCapture = (this.occupied & ~Bitboards.squareMask(from) & ~Bitboards
+				.squareMask(capturedSquare)) | Bitboards.squareMask(target);
+		return !(isSquareAttacked(this.board, this.kingSquare, this.opponentColor, occupiedAfterCapture));
+	}
+
+	/**
+	 * pieces of the player standing alone between its king and an opponent's
+	 * sliding piece on the same line
+	 */
+	private long findPinnedPieces() {
+		long queens = this.board.getPieceBitboard(this.opponentColor, PieceType.QUEEN);
+		long snipers = (SlidingAttacks.rookAttacks(this.kingSquare, Bitboards.EMPTY)
+				& (this.board.getPieceBitboard(this.opponentColor, PieceType.ROOK) | queens))
+				| (SlidingAttacks.bishopAttacks(this.kingSquare, Bitboards.EMPTY)
+						& (this.board.getPieceBitboard(this.opponentColor, PieceType.BISHOP) | queens));
+		long pinnedPieces = Bitboards.EMPTY;
+		for (; snipers != Bitboards.EMPTY; snipers = Bitboards.withoutFirstSquare(snipers)) {
+			long blockers = SlidingAttacks.between(this.kingSquare, Bitboards.firstSquare(snipers)) & this.occupied;
+			if (blockers != Bitboards.EMPTY && Bitboards.withoutFirstSquare(blockers) == Bitboards.EMPTY) {
+				pinnedPieces |= blockers & this.ownPieces;
+			}
+		}
+		return pinnedPieces;
+	}
+
+	/**
+	 * pieces of the given colour within the occupied squares which attack the
+	 * square
+	 */
+	private static long attackers(Board board, int square, Color byColor, long occupied) {
+		Color targetColor = byColor == Color.WHITE ? Color.BLACK : Color.WHITE;
+		long queens = board.getPieceBitboard(byColor, PieceType.QUEEN);
+		long attackers = (AttackTables.knightAttacks(square) & board.getPieceBitboard(byColor, PieceType.KNIGHT))
+				| (AttackTables.pawnCaptures(targetColor, square) & board.getPieceBitboard(byColor, PieceType.PAWN))
+				| (AttackTables.kingAttacks(square) & board.getPieceBitboard(byColor, PieceType.KING))
+				| (SlidingAttacks.rookAttacks(square, occupied)
+						& (board.getPieceBitboard(byColor, PieceType.ROOK) | queens))
+				| (SlidingAttacks.bishopAttacks(square, occupied)
+						& (board.getPieceBitboard(byColor, PieceType.BISHOP) | queens));
+		return attackers & occupied;
+	}
+
+}
@@ -0,0 +1,162 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+import com.capgemini.chess.algorithms.move.MoveList;
+import com.capgemini.chess.algorithms.move.PackedMove;
+
+/**
+ * counts leaf nodes of the tree of legal moves of a given depth (perft), which
+ * allows to verify the move rules against published node counts and to measure
+ * the move generation throughput
+ *
+ */
+public class Perft {
+
+	private final Board board;
+	private final ForkJoinPool pool;
+
+	/**
+	 * @param board position the move tree starts from (it is not changed)
+	 */
+	public Perft(Board board) {
+		this(board, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param board position the move tree starts from (it is not changed)
+	 * @param pool pool the root moves are split across
+	 */
+	public Perft(Board board, ForkJoinPool pool) {
+		this.board = board;
+		this.pool = pool;
+	}
+
+	/**
+	 * counts leaf nodes of the move tree in the current thread
+	 * @param depth depth of the move tree (at least 0, the position itself is
+	 *            the only node of depth 0)
+	 * @return number of leaf nodes
+	 * @throws NoKingException in case there is no king of the player to move on the board
+	 */
+	public long perft(int depth) throws NoKingException {
+		checkDepth(depth, 0);
+		return countNodes(new BoardManager(new Board(this.board)), depth, createMoveLists(depth));
+	}
+
+	/**
+	 * counts leaf nodes of the move tree splitting the root moves across the pool
+	 * @param depth depth of the move tree (at least 1)
+	 * @return number of leaf nodes in total and per root move, together with the time spent
+	 * @throws NoKingException in case there is no king of the player to move on the board
+	 */
+	public PerftResult divide(int depth) throws NoKingException {
+		checkDepth(depth, 1);
+		long start = System.nanoTime();
+
+		MoveList rootMoves = new MoveList();
+		new BoardManager(new Board(this.board)).generateLegalMoves(rootMoves);
+		List<RootMoveTask> tasks = new ArrayList<RootMoveTask>(rootMoves.size());
+		for (int i = 0; i < rootMoves.size(); i++) {
+			tasks.add(new RootMoveTask(this.board, rootMoves.get(i), depth - 1));
+		}
+		for (RootMoveTask task : tasks) {
+			this.pool.execute(task);
+		}
+
+		Map<String, Long> nodesPerRootMove = new LinkedHashMap<String, Long>();
+		long nodes = 0;
+		for (RootMoveTask task : tasks) {
+			long rootMoveNodes = task.join();
+			task.rethrowFailure();
+			nodesPerRootMove.put(PackedMove.toString(task.rootMove), rootMoveNodes);
+			nodes += rootMoveNodes;
+		}
+
+		return new PerftResult(depth, nodes, System.nanoTime() - start, nodesPerRootMove);
+	}
+
+	private static void checkDepth(int depth, int minDepth) {
+		if (depth < minDepth) {
+			throw new IllegalArgumentException("The depth must be at least " + minDepth + ": " + depth);
+		}
+	}
+
+	/**
+	 * walks the move tree on a single board making and taking back the moves
+	 * (moves of every depth are generated into their own reused list)
+	 */
+	private static long countNodes(BoardManager boardManager, int depth, MoveList[] moveLists)
+			throws NoKingException {
+		if (depth == 0) {
+			return 1;
+		}
+		MoveList legalMoves = moveLists[depth - 1];
+		legalMoves.clear();
+		boardManager.generateLegalMoves(legalMoves);
+		if (depth == 1) {
+			return legalMoves.size();
+		}
+		long nodes = 0;
+		for (int i = 0; i < legalMoves.size(); i++) {
+			boardManager.makeMove(legalMoves.get(i));
+			nodes += countNodes(boardManager, depth - 1, moveLists);
+			boardManager.unmakeMove();
+		}
+		return nodes;
+	}
+
+	private static MoveList[] createMoveLists(int depth) {
+		MoveList[] moveLists = new MoveList[depth];
+		for (int i = 0; i < moveLists.length; i++) {
+			moveLists[i] = new MoveList();
+		}
+		return moveLists;
+	}
+
+	/**
+	 * counts leaf nodes of the subtree of a single root move on its own copy of
+	 * the board (the copied board is only read, so the tasks can copy it at once)
+	 */
+	private static class RootMoveTask extends RecursiveTask<Long> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Board board;
+		private final int rootMove;
+		private final int depth;
+		private NoKingException failure;
+
+		private RootMoveTask(Board board, int rootMove, int depth) {
+			this.board = board;
+			this.rootMove = rootMove;
+			this.depth = depth;
+		}
+
+		@Override
+		protected Long compute() {
+			BoardManager boardManager = new BoardManager(new Board(this.board));
+			boardManager.makeMove(this.rootMove);
+			try {
+				return countNodes(boardManager, this.depth, createMoveLists(this.depth));
+			} catch (NoKingException e) {
+				this.failure = e;
+				return 0L;
+			}
+		}
+
+		private void rethrowFailure() throws NoKingException {
+			if (this.failure != null) {
+				throw this.failure;
+			}
+		}
+	}
+
+}
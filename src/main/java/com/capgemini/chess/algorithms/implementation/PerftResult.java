@@ -0,0 +1,66 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * result of a perft run - number of leaf nodes of the move tree of a given depth,
+ * broken down per root move
+ *
+ */
+public class PerftResult {
+
+	private final int depth;
+	private final long nodes;
+	private final long elapsedNanos;
+	private final Map<String, Long> nodesPerRootMove;
+
+	public PerftResult(int depth, long nodes, long elapsedNanos, Map<String, Long> nodesPerRootMove) {
+		this.depth = depth;
+		this.nodes = nodes;
+		this.elapsedNanos = elapsedNanos;
+		this.nodesPerRootMove = Collections.unmodifiableMap(nodesPerRootMove);
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	public long getNodes() {
+		return nodes;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * @return number of leaf nodes reached after every root move (keys are moves in
+	 *         the coordinate notation, e.g. "e2e4" or "e7e8n")
+	 */
+	public Map<String, Long> getNodesPerRootMove() {
+		return nodesPerRootMove;
+	}
+
+	/**
+	 * @return number of leaf nodes counted per second
+	 */
+	public long getNodesPerSecond() {
+		if (elapsedNanos == 0) {
+			return 0;
+		}
+		return (long) (nodes * 1_000_000_000.0 / elapsedNanos);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		for (Map.Entry<String, Long> entry : nodesPerRootMove.entrySet()) {
+			builder.append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+		}
+		builder.append("depth ").append(depth).append(": ").append(nodes).append(" nodes, ")
+				.append(getNodesPerSecond()).append(" nodes/s");
+		return builder.toString();
+	}
+
+}
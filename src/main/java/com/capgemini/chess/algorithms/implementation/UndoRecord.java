@@ -0,0 +1,24 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.piece.Piece;
+
+/**
+ * state of the board which cannot be derived from the made move itself and
+ * is needed to take the move back (records are reused by the undo stack of
+ * {@link BoardManager})
+ *
+ */
+final class UndoRecord {
+
+	Piece movedPiece;
+	Piece capturedPiece;
+	Coordinate capturedSquare;
+	int enPassantSquare;
+	int castlingRights;
+	int halfmoveClock;
+	long zobristKey;
+	int recordedPositionsCount;
+	int lastIrreversiblePositionIndex;
+
+}
@@ -0,0 +1,20 @@
+package com.capgemini.chess.algorithms.implementation.exceptions;
+
+/**
+ * an exception thrown in case a position given in the FEN notation cannot be
+ * read
+ *
+ */
+public class InvalidFenException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * allows to throw the exception with a custom message
+	 * @param message
+	 */
+	public InvalidFenException(String message) {
+		super("Invalid FEN! " + message);
+	}
+
+}
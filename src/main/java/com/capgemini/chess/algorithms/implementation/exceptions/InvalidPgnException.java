@@ -0,0 +1,20 @@
+package com.capgemini.chess.algorithms.implementation.exceptions;
+
+/**
+ * an exception thrown in case a game in the PGN notation cannot be read or
+ * one of its moves cannot be performed
+ *
+ */
+public class InvalidPgnException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * allows to throw the exception with a custom message
+	 * @param message
+	 */
+	public InvalidPgnException(String message) {
+		super("Invalid PGN! " + message);
+	}
+
+}
@@ -6,7 +6,6 @@ import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.generated.Board;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidColorException;
-import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
 import com.capgemini.chess.algorithms.piece.Piece;
 
 /**
@@ -29,10 +28,10 @@ public class AttackMove extends Move {
 	}
 
 	/**
-	 * it validates the move without considering the check of the king possibly caused by the move
+	 * it checks the move without considering the check of the king possibly caused by the move
 	 */
 	@Override
-	public Move validateMoveWithoutConsideringCheck(Board board) throws InvalidMoveException, InvalidColorException {
+	public boolean isValidWithoutConsideringCheck(Board board) throws InvalidColorException {
 		Piece movedPiece = board.getPieceAt(this.getFrom());
 		List<Coordinate> possibleAttacks = movedPiece.possibleAttackMoves(this.getFrom());
 
@@ -40,11 +39,11 @@ public class AttackMove extends Move {
 			if (square.equals(this.getTo())) {
 				if (isMovePossibleForDestination(board)
 						&& movedPiece.isTheWayFreeToGo(board, this.getFrom(), this.getTo())) {
-					return this;
+					return true;
 				}
 			}
 		}
-		throw new InvalidMoveException();
+		return false;
 	}
 
 	/**
@@ -53,8 +52,7 @@ public class AttackMove extends Move {
 	 * @return true in case of the move is possible, false otherwise
 	 */
 	private boolean isMovePossibleForDestination(Board board) {
-		Piece pieceOnDestinationSquare = board.getPieceAt(this.getTo());
-		return (pieceOnDestinationSquare == null);
+		return board.getPieceAt(this.getTo()) == null;
 	}
 
 }
@@ -4,10 +4,8 @@ import java.util.List;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
-import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidColorException;
-import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
 import com.capgemini.chess.algorithms.piece.Piece;
 
 /**
@@ -30,10 +28,10 @@ public class CaptureMove extends Move {
 	}
 
 	/**
-	 * it validates the move without considering the check of the king possibly caused by the move
+	 * it checks the move without considering the check of the king possibly caused by the move
 	 */
 	@Override
-	public Move validateMoveWithoutConsideringCheck(Board board) throws InvalidMoveException, InvalidColorException {
+	public boolean isValidWithoutConsideringCheck(Board board) throws InvalidColorException {
 		Piece movedPiece = board.getPieceAt(this.getFrom());
 		List<Coordinate> possibleCaptures = movedPiece.possibleCaptureMoves(this.getFrom());
 
@@ -41,11 +39,11 @@ public class CaptureMove extends Move {
 			if (square.equals(this.getTo())) {
 				if (isMovePossibleForDestination(board)
 						&& movedPiece.isTheWayFreeToGo(board, this.getFrom(), this.getTo())) {
-					return this;
+					return true;
 				}
 			}
 		}
-		throw new InvalidMoveException();
+		return false;
 	}
 
 	/**
@@ -56,10 +54,7 @@ public class CaptureMove extends Move {
 	private boolean isMovePossibleForDestination(Board board) {
 		Piece movedPiece = board.getPieceAt(this.getFrom());
 		Piece pieceOnDestinationSquare = board.getPieceAt(this.getTo());
-		if (pieceOnDestinationSquare != null && movedPiece.getColor() != pieceOnDestinationSquare.getColor()) {
-			return (pieceOnDestinationSquare.getType() != PieceType.EN_PASSANT_PAWN);
-		}
-		return false;
+		return pieceOnDestinationSquare != null && movedPiece.getColor() != pieceOnDestinationSquare.getColor();
 	}
 
 }
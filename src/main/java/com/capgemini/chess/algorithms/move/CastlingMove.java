@@ -3,11 +3,12 @@ package com.capgemini.chess.algorithms.move;
 import java.util.List;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
-import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
 import com.capgemini.chess.algorithms.piece.King;
+import com.capgemini.chess.algorithms.piece.Piece;
 
 /**
  * an object representation of the castling type move, allows to create the move
@@ -17,6 +18,8 @@ import com.capgemini.chess.algorithms.piece.King;
  */
 public class CastlingMove extends Move {
 
+	private static final int KING_START_COLUMN = 4;
+
 	private final MoveType type = MoveType.CASTLING;
 
 	public CastlingMove(Coordinate from, Coordinate to) {
@@ -29,80 +32,68 @@ public class CastlingMove extends Move {
 	}
 
 	/**
-	 * it validates the move without considering the check of the king possibly caused by the move
+	 * it checks the move without considering the check of the king possibly caused by the move
+	 * (whether the king and the rook were moved is read from the castling rights of the board)
 	 */
 	@Override
-	public Move validateMoveWithoutConsideringCheck(Board board) throws InvalidMoveException {
-
-		if (!(isThisTheFirstMoveOfTheKing(board, this.getFrom()))) {
-			throw new InvalidMoveException();
+	public boolean isValidWithoutConsideringCheck(Board board) {
+		Piece king = board.getPieceAt(this.getFrom());
+		if (king == null || king.getType() != PieceType.KING) {
+			return false;
+		}
+		int homeRow = king.getColor() == Color.WHITE ? 0 : Board.SIZE - 1;
+		if (!(this.getFrom().equals(Coordinate.of(KING_START_COLUMN, homeRow)))) {
+			return false;
 		}
 
-		List<Coordinate> possibleMoves = ((King) board.getPieceAt(this.getFrom()))
-				.possibleCastlingMoves(this.getFrom());
-
-		int i = 0;
-		for (Coordinate square : possibleMoves) {
-			if (square.equals(this.getTo())) {
-				i++;
-			}
+		List<Coordinate> possibleMoves = ((King) king).possibleCastlingMoves(this.getFrom());
+		if (!(possibleMoves.contains(this.getTo()))) {
+			return false;
 		}
 
-		if (i == 0) {
-			throw new InvalidMoveException();
+		boolean kingSide = this.getTo().getX() > this.getFrom().getX();
+		if ((board.getCastlingRights() & castlingRight(king.getColor(), kingSide)) == 0) {
+			return false;
 		}
 
 		if (!(isTheWayFreeForCastling(board))) {
-			throw new InvalidMoveException();
+			return false;
 		}
 
-		if (this.getTo().getX() >= this.getFrom().getX()) {
-			if (isThisTheFirstMoveOfTheRook(board, new Coordinate(Board.SIZE - 1, this.getFrom().getY()))) {
-				return this;
-			} else {
-				throw new InvalidMoveException();
-			}
+		if (kingSide) {
+			return isTheRookInPlace(board, Coordinate.of(Board.SIZE - 1, homeRow), king.getColor());
 		} else {
-			if (board.getPieceAt(new Coordinate(1, this.getFrom().getY())) != null) {
-				throw new InvalidMoveException();
-			}
-			if (isThisTheFirstMoveOfTheRook(board, new Coordinate(0, this.getFrom().getY()))) {
-				return this;
-			} else {
-				throw new InvalidMoveException();
+			if (board.getPieceAt(Coordinate.of(1, homeRow)) != null) {
+				return false;
 			}
+			return isTheRookInPlace(board, Coordinate.of(0, homeRow), king.getColor());
 		}
 	}
 
 	/**
-	 * checks if the king was ever moved during the game
-	 * (needed to validate castling move)
-	 * @param board current situation on the board
-	 * @param kingLocation location of the king
-	 * @return true if the move is going to be the first move of the king, false otherwise
+	 * gets the castling right flag of the board needed for the castling
+	 * @param color colour of the king
+	 * @param kingSide true for the castling towards the h-file, false otherwise
+	 * @return castling right flag (e.g. {@link Board#WHITE_KING_SIDE_CASTLING})
 	 */
-	private boolean isThisTheFirstMoveOfTheKing(Board board, Coordinate kingLocation) {
-		if (board.getPieceAt(this.getFrom()).getType() != PieceType.KING) {
-			return false;
+	private int castlingRight(Color color, boolean kingSide) {
+		if (color == Color.WHITE) {
+			return kingSide ? Board.WHITE_KING_SIDE_CASTLING : Board.WHITE_QUEEN_SIDE_CASTLING;
 		}
-		if (!(this.getFrom().equals(new Coordinate(4, 0)) || this.getFrom().equals(new Coordinate(4, 7)))) {
-			return false;
-		}
-		return !(wasThePieceMoved(board, kingLocation));
+		return kingSide ? Board.BLACK_KING_SIDE_CASTLING : Board.BLACK_QUEEN_SIDE_CASTLING;
 	}
 
 	/**
-	 * checks if the rook was ever moved during the game
-	 * (needed to validate castling move)
+	 * checks if there is a rook of the colour of the king on its start square
+	 * (castling rights of a board set up by hand may not reflect the pieces)
 	 * @param board current situation on the board
-	 * @param rookLocation location of the king
-	 * @return true if the move is going to be the first move of the rook, false otherwise
+	 * @param rookLocation start square of the rook
+	 * @param color colour of the king
+	 * @return true if the rook is there, false otherwise
 	 */
-	private boolean isThisTheFirstMoveOfTheRook(Board board, Coordinate rookLocation) {
-		if (board.getPieceAt(rookLocation) == null || board.getPieceAt(rookLocation).getType() != PieceType.ROOK) {
-			return false;
-		}
-		return !(wasThePieceMoved(board, rookLocation));
+	private boolean isTheRookInPlace(Board board, Coordinate rookLocation, Color color) {
+		Piece rook = board.getPieceAt(rookLocation);
+		return rook != null && rook.getType() == PieceType.ROOK && rook.getColor() == color;
 	}
 
 	/**
@@ -119,7 +110,7 @@ public class CastlingMove extends Move {
 		int absDistance = Math.abs(stop - start);
 		int direction = (stop - start) / absDistance;
 		for (int i = 1; i <= absDistance; i++) {
-			Coordinate squareOnTheWay = new Coordinate(this.getFrom().getX() + i * direction, this.getFrom().getY());
+			Coordinate squareOnTheWay = Coordinate.of(this.getFrom().getX() + i * direction, this.getFrom().getY());
 			if (board.getPieceAt(squareOnTheWay) != null) {
 				return false;
 			}
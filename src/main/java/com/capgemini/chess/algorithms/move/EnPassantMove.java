@@ -2,12 +2,12 @@ package com.capgemini.chess.algorithms.move;
 
 import java.util.List;
 
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidColorException;
-import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
 import com.capgemini.chess.algorithms.piece.Piece;
 
 /**
@@ -30,10 +30,10 @@ public class EnPassantMove extends Move {
 	}
 
 	/**
-	 * it validates the move without considering the check of the king possibly caused by the move
+	 * it checks the move without considering the check of the king possibly caused by the move
 	 */
 	@Override
-	public Move validateMoveWithoutConsideringCheck(Board board) throws InvalidMoveException, InvalidColorException {
+	public boolean isValidWithoutConsideringCheck(Board board) throws InvalidColorException {
 		Piece movedPiece = board.getPieceAt(this.getFrom());
 		List<Coordinate> possibleCaptures = movedPiece.possibleCaptureMoves(this.getFrom());
 
@@ -41,25 +41,29 @@ public class EnPassantMove extends Move {
 			if (square.equals(this.getTo())) {
 				if (isMovePossibleForDestination(board)
 						&& movedPiece.isTheWayFreeToGo(board, this.getFrom(), this.getTo())) {
-					return this;
+					return true;
 				}
 			}
 		}
-		throw new InvalidMoveException();
+		return false;
 	}
 
 	/**
 	 * it checks if the move is possible according to what is on the end point of the move
+	 * (the end point must be the en passant target of the board and the pawn which
+	 * skipped it must be of the opposite colour)
 	 * @param board current situation on the board
 	 * @return true in case of the move is possible, false otherwise
 	 */
 	private boolean isMovePossibleForDestination(Board board) {
 		Piece movedPiece = board.getPieceAt(this.getFrom());
-		Piece pieceOnDestinationSquare = board.getPieceAt(this.getTo());
-		if (pieceOnDestinationSquare != null && movedPiece.getColor() != pieceOnDestinationSquare.getColor()) {
-			return (pieceOnDestinationSquare.getType() == PieceType.EN_PASSANT_PAWN);
+		if (movedPiece.getType() != PieceType.PAWN || board.getPieceAt(this.getTo()) != null
+				|| Bitboards.squareIndex(this.getTo()) != board.getEnPassantSquare()) {
+			return false;
 		}
-		return false;
+		Piece capturedPiece = board.getPieceAt(Coordinate.of(this.getTo().getX(), this.getFrom().getY()));
+		return capturedPiece != null && capturedPiece.getType() == PieceType.PAWN
+				&& capturedPiece.getColor() != movedPiece.getColor();
 	}
 
 }
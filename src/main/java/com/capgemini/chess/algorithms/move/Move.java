@@ -1,5 +1,6 @@
 package com.capgemini.chess.algorithms.move;
 
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
@@ -19,9 +20,19 @@ public abstract class Move {
 	private Coordinate from;
 	private Coordinate to;
 	private Piece movedPiece;
+	private PieceType promotionPieceType;
 
 	public abstract MoveType getType();
 
+	/**
+	 * it checks the move without considering the check of the king possibly caused by the move
+	 * (no exception is thrown for an invalid move)
+	 * @param board current situation on the board
+	 * @return true if the move is valid, false otherwise
+	 * @throws InvalidColorException thrown in case of a wrong colour of the moved piece
+	 */
+	public abstract boolean isValidWithoutConsideringCheck(Board board) throws InvalidColorException;
+
 	/**
 	 * it validates the move without considering the check of the king possibly caused by the move
 	 * @param board current situation on the board
@@ -29,8 +40,12 @@ public abstract class Move {
 	 * @throws InvalidMoveException thrown in case of the move is not valid
 	 * @throws InvalidColorException thrown in case of a wrong colour of the moved piece
 	 */
-	public abstract Move validateMoveWithoutConsideringCheck(Board board)
-			throws InvalidMoveException, InvalidColorException;
+	public Move validateMoveWithoutConsideringCheck(Board board) throws InvalidMoveException, InvalidColorException {
+		if (!(isValidWithoutConsideringCheck(board))) {
+			throw new InvalidMoveException();
+		}
+		return this;
+	}
 
 	public Move(Coordinate from, Coordinate to) {
 		this.from = from;
@@ -46,17 +61,19 @@ public abstract class Move {
 	 * @return
 	 */
 	public static Move generateMove(Board board, Coordinate from, Coordinate to) {
-		if (board.getPieceAt(to) == null) {
-			if (board.getPieceAt(from).getType() == PieceType.KING && Math.abs(to.getX() - from.getX()) == 2) {
-				return new CastlingMove(from, to);
-			} else {
-				return new AttackMove(from, to);
-			}
-		} else if (board.getPieceAt(to).getType() == PieceType.EN_PASSANT_PAWN) {
-			return new EnPassantMove(from, to);
-		} else {
+		Piece pieceOnDestinationSquare = board.getPieceAt(to);
+		PieceType movedPieceType = board.getPieceAt(from).getType();
+		if (pieceOnDestinationSquare != null) {
 			return new CaptureMove(from, to);
 		}
+		if (movedPieceType == PieceType.KING && Math.abs(to.getX() - from.getX()) == 2) {
+			return new CastlingMove(from, to);
+		}
+		if (movedPieceType == PieceType.PAWN && from.getX() != to.getX()
+				&& Bitboards.squareIndex(to) == board.getEnPassantSquare()) {
+			return new EnPassantMove(from, to);
+		}
+		return new AttackMove(from, to);
 	}
 
 	/**
@@ -86,9 +103,25 @@ public abstract class Move {
 				return false;
 		} else if (!to.equals(other.to))
 			return false;
+		if (promotionPieceType != other.promotionPieceType)
+			return false;
 		return true;
 	}
 
+	/**
+	 * @return the move in the coordinate notation (e.g. "e2e4" or "e7e8q")
+	 */
+	@Override
+	public String toString() {
+		StringBuilder notation = new StringBuilder().append(from).append(to);
+		if (promotionPieceType == PieceType.KNIGHT) {
+			notation.append('n');
+		} else if (promotionPieceType != null) {
+			notation.append(Character.toLowerCase(promotionPieceType.name().charAt(0)));
+		}
+		return notation.toString();
+	}
+
 	public Coordinate getFrom() {
 		return this.from;
 	}
@@ -114,19 +147,15 @@ public abstract class Move {
 	}
 
 	/**
-	 * checks if a certain piece was ever moved during the game
-	 * (needed to validate castling move)
-	 * @param board current situation on the board
-	 * @param pieceLocation the location of considered piece
-	 * @return true in case of the piece was moved before, false otherwise
+	 * @return type of the piece a pawn is promoted to by the move, null if not
+	 *         chosen (a pawn reaching the last row is promoted to a queen then)
 	 */
-	protected boolean wasThePieceMoved(Board board, Coordinate pieceLocation) {
-		for (Move performedMove : board.getMoveHistory()) {
-			if (performedMove.getFrom().equals(pieceLocation)) {
-				return true;
-			}
-		}
-		return false;
+	public PieceType getPromotionPieceType() {
+		return promotionPieceType;
+	}
+
+	public void setPromotionPieceType(PieceType promotionPieceType) {
+		this.promotionPieceType = promotionPieceType;
 	}
 
 }
@@ -0,0 +1,225 @@
+package com.capgemini.chess.algorithms.move;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * growable buffer of packed moves (see {@link PackedMove}) kept in an int
+ * array, which can be cleared and filled again without allocating, e.g. by
+ * the move generation on every ply of a search. A list can be shared by
+ * {@link #share()}, the lists then share the array until either of them is
+ * changed (copy-on-write).
+ *
+ */
+public final class MoveList {
+
+	private static final int DEFAULT_CAPACITY = 64;
+	private static final int NOT_OWNED = Integer.MAX_VALUE;
+
+	private int[] moves;
+	private int size;
+	/**
+	 * moves with lower indexes are shared with copies of the list and the array
+	 * must be copied before any of them is overwritten ({@link #NOT_OWNED} if
+	 * the array belongs to another list)
+	 */
+	private int sharedSize;
+
+	public MoveList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity number of moves the list holds before it grows
+	 */
+	public MoveList(int capacity) {
+		this.moves = new int[Math.max(capacity, 1)];
+	}
+
+	/**
+	 * Creates a copy of the given list, which can be changed independently (the
+	 * given list is only read, so copies can be taken by many threads at once
+	 * as long as the list is not changed).
+	 *
+	 * @param list copied list
+	 */
+	public MoveList(MoveList list) {
+		this.moves = Arrays.copyOf(list.moves, Math.max(list.size, DEFAULT_CAPACITY));
+		this.size = list.size;
+	}
+
+	private MoveList(int[] moves, int size) {
+		this.moves = moves;
+		this.size = size;
+		this.sharedSize = NOT_OWNED;
+	}
+
+	/**
+	 * Creates a copy of the list which shares the array of moves with it. The
+	 * copy copies the array when it is changed for the first time and this
+	 * list only when a shared move is overwritten, so the copy costs the same
+	 * for any number of moves. The shared moves are marked on this list, so
+	 * the copy must be taken by the thread which changes this list.
+	 *
+	 * @return copy of the list
+	 */
+	public MoveList share() {
+		if (this.sharedSize < this.size) {
+			this.sharedSize = this.size;
+		}
+		return new MoveList(this.moves, this.size);
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * @param index index of the move (0 - {@link #size()} - 1)
+	 * @return the packed move
+	 */
+	public int get(int index) {
+		checkIndex(index, this.size);
+		return this.moves[index];
+	}
+
+	/**
+	 * @param index index of the replaced move (0 - {@link #size()} - 1)
+	 * @param move the packed move
+	 */
+	public void set(int index, int move) {
+		checkIndex(index, this.size);
+		beforeWrite(index);
+		this.moves[index] = move;
+	}
+
+	/**
+	 * @param move the packed move added at the end of the list
+	 */
+	public void add(int move) {
+		if (this.size == this.moves.length) {
+			this.moves = Arrays.copyOf(this.moves, 2 * this.moves.length);
+			this.sharedSize = 0;
+		} else {
+			beforeWrite(this.size);
+		}
+		this.moves[this.size++] = move;
+	}
+
+	/**
+	 * @param index index the move is inserted at (0 - {@link #size()})
+	 * @param move the packed move
+	 */
+	public void add(int index, int move) {
+		checkIndex(index, this.size + 1);
+		add(move);
+		beforeWrite(index);
+		System.arraycopy(this.moves, index, this.moves, index + 1, this.size - 1 - index);
+		this.moves[index] = move;
+	}
+
+	/**
+	 * @param index index of the removed move (0 - {@link #size()} - 1)
+	 * @return the removed packed move
+	 */
+	public int remove(int index) {
+		checkIndex(index, this.size);
+		int move = this.moves[index];
+		beforeWrite(index);
+		System.arraycopy(this.moves, index + 1, this.moves, index, this.size - 1 - index);
+		this.size--;
+		return move;
+	}
+
+	/**
+	 * @return the removed last packed move
+	 * @throws IllegalStateException in case the list is empty
+	 */
+	public int removeLast() {
+		if (this.size == 0) {
+			throw new IllegalStateException("The move list is empty!");
+		}
+		return this.moves[--this.size];
+	}
+
+	/**
+	 * removes all moves keeping the allocated buffer
+	 */
+	public void clear() {
+		this.size = 0;
+	}
+
+	/**
+	 * @return a list of move objects backed by this list, moves are unpacked
+	 *         when they are read and packed when they are added
+	 */
+	public List<Move> asMoves() {
+		return new MoveView();
+	}
+
+	/**
+	 * copies the array before a move shared with another list is overwritten
+	 */
+	private void beforeWrite(int index) {
+		if (index >= this.sharedSize) {
+			return;
+		}
+		this.moves = Arrays.copyOf(this.moves, Math.max(this.moves.length, DEFAULT_CAPACITY));
+		this.sharedSize = 0;
+	}
+
+	private static void checkIndex(int index, int bound) {
+		if (index < 0 || index >= bound) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + (bound - 1));
+		}
+	}
+
+	/**
+	 * view of the packed moves as {@link Move} objects
+	 */
+	private class MoveView extends AbstractList<Move> {
+
+		@Override
+		public Move get(int index) {
+			return PackedMove.toMove(MoveList.this.get(index));
+		}
+
+		@Override
+		public int size() {
+			return MoveList.this.size;
+		}
+
+		@Override
+		public Move set(int index, Move move) {
+			Move replaced = get(index);
+			MoveList.this.set(index, PackedMove.pack(move));
+			return replaced;
+		}
+
+		@Override
+		public void add(int index, Move move) {
+			MoveList.this.add(index, PackedMove.pack(move));
+			this.modCount++;
+		}
+
+		@Override
+		public Move remove(int index) {
+			Move removed = get(index);
+			MoveList.this.remove(index);
+			this.modCount++;
+			return removed;
+		}
+
+		@Override
+		public void clear() {
+			MoveList.this.clear();
+			this.modCount++;
+		}
+	}
+
+}
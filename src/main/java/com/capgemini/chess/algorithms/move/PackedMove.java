@@ -0,0 +1,205 @@
+package com.capgemini.chess.algorithms.move;
+
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.piece.Piece;
+
+/**
+ * encodes a move in the lower 16 bits of an int: the start square (bits 0-5),
+ * the end square (bits 6-11) and a flag (bits 12-15) with the type of the move
+ * and the promotion piece type. The moved piece may be kept in the bits above
+ * (e.g. in the move history), so the {@link Move} object can be recreated only
+ * when it is needed.
+ *
+ */
+public final class PackedMove {
+
+	/**
+	 * value which is never a move (a move from a square to the same square)
+	 */
+	public static final int NONE = 0;
+
+	private static final int SQUARE_MASK = 0x3F;
+	private static final int TO_SHIFT = 6;
+	private static final int FLAG_SHIFT = 12;
+	private static final int FLAG_MASK = 0xF;
+	private static final int MOVE_MASK = 0xFFFF;
+	private static final int PIECE_SHIFT = 16;
+	private static final int PIECE_TYPE_MASK = 0x7;
+	private static final int BLACK_PIECE = 1 << 19;
+
+	private static final MoveType[] MOVE_TYPES = MoveType.values();
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+	private static final PieceType[] PROMOTION_PIECE_TYPES = { PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP,
+			PieceType.KNIGHT };
+
+	/**
+	 * flags 0-3 are the ordinals of move types without a promotion, four
+	 * promotion piece types follow for an attack and a capture
+	 */
+	private static final int ATTACK_PROMOTION = 4;
+	private static final int CAPTURE_PROMOTION = ATTACK_PROMOTION + PROMOTION_PIECE_TYPES.length;
+
+	private PackedMove() {
+	}
+
+	/**
+	 * @param from index of the start square
+	 * @param to index of the end square
+	 * @param type type of the move
+	 * @param promotionPieceType type of the piece a pawn is promoted to, null if
+	 *            none is chosen
+	 * @return the packed move
+	 */
+	public static int of(int from, int to, MoveType type, PieceType promotionPieceType) {
+		int flag = type.ordinal();
+		if (promotionPieceType != null) {
+			flag = (type == MoveType.CAPTURE ? CAPTURE_PROMOTION : ATTACK_PROMOTION)
+					+ promotionIndex(promotionPieceType);
+		}
+		return from | (to << TO_SHIFT) | (flag << FLAG_SHIFT);
+	}
+
+	/**
+	 * @param move move object with both coordinates set
+	 * @return the packed move together with the moved piece (if set)
+	 */
+	public static int pack(Move move) {
+		int packed = of(Bitboards.squareIndex(move.getFrom()), Bitboards.squareIndex(move.getTo()), move.getType(),
+				move.getPromotionPieceType());
+		return withMovedPiece(packed, move.getMovedPiece());
+	}
+
+	/**
+	 * @param move packed move
+	 * @return the move object with the moved piece if it is kept in the packed move
+	 */
+	public static Move toMove(int move) {
+		Coordinate from = Bitboards.toCoordinate(from(move));
+		Coordinate to = Bitboards.toCoordinate(to(move));
+		Move unpacked;
+		switch (type(move)) {
+		case CAPTURE:
+			unpacked = new CaptureMove(from, to);
+			break;
+		case CASTLING:
+			unpacked = new CastlingMove(from, to);
+			break;
+		case EN_PASSANT:
+			unpacked = new EnPassantMove(from, to);
+			break;
+		default:
+			unpacked = new AttackMove(from, to);
+		}
+		unpacked.setMovedPiece(movedPiece(move));
+		unpacked.setPromotionPieceType(promotionPieceType(move));
+		return unpacked;
+	}
+
+	public static int from(int move) {
+		return move & SQUARE_MASK;
+	}
+
+	public static int to(int move) {
+		return (move >>> TO_SHIFT) & SQUARE_MASK;
+	}
+
+	public static MoveType type(int move) {
+		int flag = flag(move);
+		if (flag < ATTACK_PROMOTION) {
+			return MOVE_TYPES[flag];
+		}
+		return flag < CAPTURE_PROMOTION ? MoveType.ATTACK : MoveType.CAPTURE;
+	}
+
+	/**
+	 * @param move packed move
+	 * @return type of the piece a pawn is promoted to, null if none is chosen
+	 */
+	public static PieceType promotionPieceType(int move) {
+		int flag = flag(move);
+		if (flag < ATTACK_PROMOTION) {
+			return null;
+		}
+		return PROMOTION_PIECE_TYPES[(flag - ATTACK_PROMOTION) % PROMOTION_PIECE_TYPES.length];
+	}
+
+	/**
+	 * @param move packed move
+	 * @return true if a piece is captured by the move (en passant included)
+	 */
+	public static boolean isCapture(int move) {
+		MoveType type = type(move);
+		return type == MoveType.CAPTURE || type == MoveType.EN_PASSANT;
+	}
+
+	/**
+	 * @param move packed move
+	 * @return the 16 bits of the move without the moved piece
+	 */
+	public static int withoutMovedPiece(int move) {
+		return move & MOVE_MASK;
+	}
+
+	/**
+	 * @param move packed move
+	 * @param piece moved piece, null if unknown
+	 * @return the packed move keeping the moved piece
+	 */
+	public static int withMovedPiece(int move, Piece piece) {
+		int packed = withoutMovedPiece(move);
+		if (piece == null) {
+			return packed;
+		}
+		packed |= (piece.getType().ordinal() + 1) << PIECE_SHIFT;
+		if (piece.getColor() == Color.BLACK) {
+			packed |= BLACK_PIECE;
+		}
+		return packed;
+	}
+
+	/**
+	 * @param move packed move
+	 * @return the moved piece kept in the packed move, null if it is not kept
+	 */
+	public static Piece movedPiece(int move) {
+		int type = (move >>> PIECE_SHIFT) & PIECE_TYPE_MASK;
+		if (type == 0) {
+			return null;
+		}
+		return Piece.createPiece(PIECE_TYPES[type - 1], (move & BLACK_PIECE) != 0 ? Color.BLACK : Color.WHITE);
+	}
+
+	/**
+	 * @param move packed move
+	 * @return the move in the coordinate notation (e.g. "e2e4" or "e7e8q")
+	 */
+	public static String toString(int move) {
+		StringBuilder notation = new StringBuilder(5).append(Bitboards.toCoordinate(from(move)))
+				.append(Bitboards.toCoordinate(to(move)));
+		PieceType promotionPieceType = promotionPieceType(move);
+		if (promotionPieceType == PieceType.KNIGHT) {
+			notation.append('n');
+		} else if (promotionPieceType != null) {
+			notation.append(Character.toLowerCase(promotionPieceType.name().charAt(0)));
+		}
+		return notation.toString();
+	}
+
+	private static int flag(int move) {
+		return (move >>> FLAG_SHIFT) & FLAG_MASK;
+	}
+
+	private static int promotionIndex(PieceType promotionPieceType) {
+		for (int i = 0; i < PROMOTION_PIECE_TYPES.length; i++) {
+			if (PROMOTION_PIECE_TYPES[i] == promotionPieceType) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("A pawn cannot be promoted to " + promotionPieceType + "!");
+	}
+
+}
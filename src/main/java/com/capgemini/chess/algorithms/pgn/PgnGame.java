@@ -0,0 +1,153 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.capgemini.chess.algorithms.data.enums.GameResult;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.BoardQuery;
+import com.capgemini.chess.algorithms.implementation.BoardSnapshot;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidFenException;
+import com.capgemini.chess.algorithms.move.MoveList;
+
+/**
+ * a game read by {@link PgnReader} - tags, result and moves replayed on a
+ * board. The object is reused for every game of the stream: a game starting
+ * from the initial position is replayed on the same board manager, which is
+ * brought back to the initial position by taking the moves back, so the
+ * position is handed out only for reading.
+ *
+ */
+public class PgnGame {
+
+	static final String FEN_TAG = "FEN";
+
+	private final BoardManager initialPositionBoardManager = new BoardManager();
+	private final Map<String, String> tags = new LinkedHashMap<String, String>();
+	private final Map<String, String> unmodifiableTags = Collections.unmodifiableMap(this.tags);
+	private final MoveList moves = new MoveList(256);
+	private BoardManager boardManager;
+	private GameResult result;
+	private long gameNumber;
+	private long lineNumber;
+
+	/**
+	 * @param name name of the tag (e.g. "White")
+	 * @return value of the tag, null if the game has no such tag
+	 */
+	public String getTag(String name) {
+		return this.tags.get(name);
+	}
+
+	/**
+	 * @return all tags of the game in the order of the stream
+	 */
+	public Map<String, String> getTags() {
+		return this.unmodifiableTags;
+	}
+
+	/**
+	 * @return result of the game from the white player's point of view, null if
+	 *         the game is not finished or its result is not given
+	 */
+	public GameResult getResult() {
+		return this.result;
+	}
+
+	/**
+	 * @return replayed moves in the packed form (see
+	 *         {@link com.capgemini.chess.algorithms.move.PackedMove})
+	 */
+	public MoveList getMoves() {
+		return this.moves;
+	}
+
+	public int getMovesCount() {
+		return this.moves.size();
+	}
+
+	/**
+	 * @return read-only queries on the position after the last replayed move,
+	 *         valid only until the next game is read
+	 */
+	public BoardQuery query() {
+		return boardManager().query();
+	}
+
+	/**
+	 * @return immutable snapshot of the position after the last replayed move,
+	 *         which can be kept after the next game is read
+	 */
+	public BoardSnapshot snapshot() {
+		return boardManager().snapshot();
+	}
+
+	/**
+	 * @return number of the game in the stream (starting from 1)
+	 */
+	public long getGameNumber() {
+		return this.gameNumber;
+	}
+
+	/**
+	 * @return number of the line the game starts at (starting from 1)
+	 */
+	public long getLineNumber() {
+		return this.lineNumber;
+	}
+
+	/**
+	 * prepares the object for the next game of the stream
+	 */
+	void reset(long gameNumber, long lineNumber) {
+		if (this.boardManager == this.initialPositionBoardManager) {
+			for (int i = 0; i < this.moves.size(); i++) {
+				this.initialPositionBoardManager.unmakeMove();
+			}
+		}
+		this.boardManager = null;
+		this.tags.clear();
+		this.moves.clear();
+		this.result = null;
+		this.gameNumber = gameNumber;
+		this.lineNumber = lineNumber;
+	}
+
+	BoardManager boardManager() {
+		return this.boardManager == null ? this.initialPositionBoardManager : this.boardManager;
+	}
+
+	boolean isStarted() {
+		return this.boardManager != null;
+	}
+
+	/**
+	 * sets the start position up, given by the FEN tag or the initial one
+	 */
+	void start() throws InvalidFenException {
+		String fen = this.tags.get(FEN_TAG);
+		this.boardManager = this.initialPositionBoardManager;
+		if (fen != null) {
+			this.boardManager = new BoardManager(fen);
+		}
+	}
+
+	boolean hasTag(String name) {
+		return this.tags.containsKey(name);
+	}
+
+	void putTag(String name, String value) {
+		this.tags.put(name, value);
+	}
+
+	void addMove(int move) {
+		this.boardManager.makeMove(move);
+		this.moves.add(move);
+	}
+
+	void setResult(GameResult result) {
+		this.result = result;
+	}
+
+}
@@ -0,0 +1,28 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidPgnException;
+
+/**
+ * receives games read by {@link PgnReader}. The game object is reused by the
+ * reader, so it is valid only during the call (data needed later has to be
+ * copied, e.g. the packed moves).
+ *
+ */
+public interface PgnGameConsumer {
+
+	/**
+	 * called for every game whose moves were all replayed
+	 * @param game the game with its final position
+	 */
+	void gameRead(PgnGame game);
+
+	/**
+	 * called for every game which could not be read or replayed (the game holds
+	 * the moves replayed before the failure)
+	 * @param game the rejected game
+	 * @param cause reason of the rejection
+	 */
+	default void gameRejected(PgnGame game, InvalidPgnException cause) {
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.capgemini.chess.algorithms.pgn;
+
+/**
+ * result of reading a PGN stream - numbers of games and moves read, together
+ * with the time spent (the games are read in a single thread, so the games per
+ * second are measured per core)
+ *
+ */
+public class PgnReadResult {
+
+	private final long games;
+	private final long rejectedGames;
+	private final long moves;
+	private final long elapsedNanos;
+
+	public PgnReadResult(long games, long rejectedGames, long moves, long elapsedNanos) {
+		this.games = games;
+		this.rejectedGames = rejectedGames;
+		this.moves = moves;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * @return number of games read and replayed successfully
+	 */
+	public long getGames() {
+		return games;
+	}
+
+	/**
+	 * @return number of games which could not be read or replayed
+	 */
+	public long getRejectedGames() {
+		return rejectedGames;
+	}
+
+	/**
+	 * @return number of moves of the games read successfully
+	 */
+	public long getMoves() {
+		return moves;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * @return number of games (rejected included) read per second
+	 */
+	public long getGamesPerSecond() {
+		if (elapsedNanos == 0) {
+			return 0;
+		}
+		return (long) ((games + rejectedGames) * 1_000_000_000.0 / elapsedNanos);
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder().append(games).append(" games, ").append(rejectedGames).append(" rejected, ")
+				.append(moves).append(" moves, ").append(getGamesPerSecond()).append(" games/s").toString();
+	}
+
+}
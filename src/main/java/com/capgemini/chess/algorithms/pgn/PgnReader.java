@@ -0,0 +1,352 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import com.capgemini.chess.algorithms.data.enums.GameResult;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidFenException;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidPgnException;
+import com.capgemini.chess.algorithms.move.MoveList;
+
+/**
+ * reads games in the PGN notation from a stream and replays their moves,
+ * handing every game to a {@link PgnGameConsumer}. The stream is read through
+ * a fixed buffer and only the current game is kept in memory, so files of any
+ * size can be read. Comments, variations, move numbers and annotations are
+ * skipped, moves in the standard algebraic notation are resolved against the
+ * legal moves of the current position (see {@link San}).
+ *
+ */
+public class PgnReader {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final int MAX_TOKEN_LENGTH = 255;
+	private static final int MAX_TAG_LENGTH = 4096;
+	private static final int MAX_TAGS = 256;
+	private static final int END_OF_INPUT = -1;
+	private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+	private final Reader input;
+	private final char[] buffer = new char[BUFFER_SIZE];
+	private int position;
+	private int limit;
+	private int previousChar = '\n';
+	private long lineNumber = 1;
+
+	private final char[] token = new char[MAX_TOKEN_LENGTH];
+	private int tokenLength;
+	private final StringBuilder tagBuilder = new StringBuilder();
+
+	private final PgnGame game = new PgnGame();
+	private final MoveList legalMoves = new MoveList();
+	private long gamesCount;
+	private InvalidPgnException failure;
+
+	/**
+	 * @param input stream of games in the PGN notation (it is not closed by the reader)
+	 */
+	public PgnReader(Reader input) {
+		this.input = input;
+	}
+
+	/**
+	 * reads all games of the stream
+	 * @param consumer receiver of the games
+	 * @return numbers of games and moves read, together with the time spent
+	 * @throws IOException in case the stream cannot be read
+	 */
+	public PgnReadResult readAll(PgnGameConsumer consumer) throws IOException {
+		long start = System.nanoTime();
+		long games = 0;
+		long rejectedGames = 0;
+		long moves = 0;
+		while (readGame()) {
+			if (this.failure == null) {
+				consumer.gameRead(this.game);
+				games++;
+				moves += this.game.getMovesCount();
+			} else {
+				consumer.gameRejected(this.game, this.failure);
+				rejectedGames++;
+			}
+		}
+		return new PgnReadResult(games, rejectedGames, moves, System.nanoTime() - start);
+	}
+
+	/**
+	 * reads tags and moves of the next game up to its result (or the tags of
+	 * the following game)
+	 * @return false if there is no game left in the stream
+	 */
+	private boolean readGame() throws IOException {
+		boolean started = false;
+		boolean movetext = false;
+		while (true) {
+			int c = skipWhitespace();
+			if (c == END_OF_INPUT) {
+				if (started) {
+					startPosition();
+				}
+				return started;
+			}
+			if (!started) {
+				started = true;
+				this.failure = null;
+				this.game.reset(++this.gamesCount, this.lineNumber);
+			}
+
+			if (c == '[') {
+				if (movetext) {
+					// a game without the result, the tags belong to the next game
+					startPosition();
+					return true;
+				}
+				next();
+				readTag();
+			} else if (c == '{') {
+				skipComment();
+			} else if (c == ';' || (c == '%' && this.previousChar == '\n')) {
+				skipLine();
+			} else if (c == '(') {
+				skipVariation();
+			} else if (c == '$') {
+				next();
+				readToken();
+			} else {
+				movetext = true;
+				readToken();
+				if (this.tokenLength == 0) {
+					next();
+					fail("Unexpected character '" + (char) c + "' at line " + this.lineNumber + "!");
+				} else if (readResult()) {
+					startPosition();
+					return true;
+				} else {
+					readMove();
+				}
+			}
+		}
+	}
+
+	private void readTag() throws IOException {
+		int c = skipWhitespace();
+		this.tagBuilder.setLength(0);
+		while (c != END_OF_INPUT && c != '"' && c != ']' && !(isWhitespace(c))) {
+			appendToTag(next());
+			c = peek();
+		}
+		String name = this.tagBuilder.toString();
+		c = skipWhitespace();
+		if (c != '"' || name.isEmpty()) {
+			fail("Invalid tag at line " + this.lineNumber + "!");
+			skipUntil(']');
+			return;
+		}
+		next();
+		this.tagBuilder.setLength(0);
+		for (c = next(); c != END_OF_INPUT && c != '"'; c = next()) {
+			if (c == '\\') {
+				c = next();
+			}
+			if (c == '\n') {
+				fail("Unterminated tag value at line " + (this.lineNumber - 1) + "!");
+				return;
+			}
+			if (c != END_OF_INPUT) {
+				appendToTag(c);
+			}
+		}
+		skipUntil(']');
+		if (this.game.getTags().size() >= MAX_TAGS && !(this.game.hasTag(name))) {
+			fail("More than " + MAX_TAGS + " tags at line " + this.lineNumber + "!");
+			return;
+		}
+		this.game.putTag(name, this.tagBuilder.toString());
+	}
+
+	/**
+	 * @return true if the token is a game termination marker
+	 */
+	private boolean readResult() {
+		if (isToken("1-0")) {
+			this.game.setResult(GameResult.WON);
+		} else if (isToken("0-1")) {
+			this.game.setResult(GameResult.LOST);
+		} else if (isToken("1/2-1/2")) {
+			this.game.setResult(GameResult.DRAW);
+		} else if (!(isToken("*"))) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * strips the move number and annotations of the token and replays the move
+	 */
+	private void readMove() {
+		int start = 0;
+		while (start < this.tokenLength && Character.isDigit(this.token[start])) {
+			start++;
+		}
+		if (start > 0) {
+			if (start == this.tokenLength) {
+				return;
+			}
+			if (this.token[start] != '.') {
+				// castling written with zeros
+				start = 0;
+			}
+		}
+		while (start < this.tokenLength && (this.token[start] == '.' || this.token[start] == '!'
+				|| this.token[start] == '?')) {
+			start++;
+		}
+		if (start == this.tokenLength || this.failure != null) {
+			return;
+		}
+
+		startPosition();
+		if (this.failure != null) {
+			return;
+		}
+		try {
+			this.game.addMove(San.resolve(this.game.boardManager(), this.legalMoves, this.token, start,
+					this.tokenLength - start));
+		} catch (InvalidPgnException e) {
+			this.failure = e;
+		}
+	}
+
+	/**
+	 * sets the start position up before the first move (or at the end of a game
+	 * without moves)
+	 */
+	private void startPosition() {
+		if (this.game.isStarted()) {
+			return;
+		}
+		try {
+			this.game.start();
+		} catch (InvalidFenException e) {
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * keeps the first failure of the game
+	 */
+	private void fail(String message) {
+		if (this.failure == null) {
+			this.failure = new InvalidPgnException(message);
+		}
+	}
+
+	/**
+	 * reads characters up to a whitespace or a character which starts another
+	 * element of the notation (a token longer than the limit is cut)
+	 */
+	private void readToken() throws IOException {
+		this.tokenLength = 0;
+		for (int c = peek(); c != END_OF_INPUT && !(isWhitespace(c)) && "{}()[];$".indexOf(c) < 0; c = peek()) {
+			next();
+			if (this.tokenLength < MAX_TOKEN_LENGTH) {
+				this.token[this.tokenLength++] = (char) c;
+			}
+		}
+	}
+
+	private boolean isToken(String value) {
+		if (this.tokenLength != value.length()) {
+			return false;
+		}
+		for (int i = 0; i < this.tokenLength; i++) {
+			if (this.token[i] != value.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void appendToTag(int c) {
+		if (this.tagBuilder.length() < MAX_TAG_LENGTH) {
+			this.tagBuilder.append((char) c);
+		}
+	}
+
+	private void skipComment() throws IOException {
+		skipUntil('}');
+	}
+
+	private void skipLine() throws IOException {
+		skipUntil('\n');
+	}
+
+	/**
+	 * skips nested variations together with the comments inside them
+	 */
+	private void skipVariation() throws IOException {
+		int depth = 0;
+		for (int c = next(); c != END_OF_INPUT; c = next()) {
+			if (c == '(') {
+				depth++;
+			} else if (c == ')') {
+				if (--depth == 0) {
+					return;
+				}
+			} else if (c == '{') {
+				skipComment();
+			} else if (c == ';') {
+				skipLine();
+			}
+		}
+	}
+
+	private void skipUntil(char end) throws IOException {
+		for (int c = next(); c != END_OF_INPUT && c != end; c = next()) {
+		}
+	}
+
+	/**
+	 * @return the first character which is not a whitespace (not consumed)
+	 */
+	private int skipWhitespace() throws IOException {
+		int c = peek();
+		while (c != END_OF_INPUT && isWhitespace(c)) {
+			next();
+			c = peek();
+		}
+		return c;
+	}
+
+	/**
+	 * the byte order mark is skipped as a whitespace
+	 */
+	private static boolean isWhitespace(int c) {
+		return Character.isWhitespace(c) || c == BYTE_ORDER_MARK;
+	}
+
+	private int peek() throws IOException {
+		if (this.position == this.limit) {
+			this.limit = this.input.read(this.buffer, 0, this.buffer.length);
+			this.position = 0;
+			if (this.limit <= 0) {
+				this.limit = 0;
+				return END_OF_INPUT;
+			}
+		}
+		return this.buffer[this.position];
+	}
+
+	private int next() throws IOException {
+		int c = peek();
+		if (c != END_OF_INPUT) {
+			this.position++;
+			if (c == '\n') {
+				this.lineNumber++;
+			}
+			this.previousChar = c;
+		}
+		return c;
+	}
+
+}
@@ -0,0 +1,204 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidPgnException;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+import com.capgemini.chess.algorithms.move.MoveList;
+import com.capgemini.chess.algorithms.move.PackedMove;
+
+/**
+ * resolves moves given in the standard algebraic notation (e.g. "Nbd7",
+ * "exd5", "e8=Q+" or "O-O") against the legal moves of the current position
+ *
+ */
+public final class San {
+
+	private static final int ANY = -1;
+	private static final int KING_SIDE_FILE = 6;
+	private static final int QUEEN_SIDE_FILE = 2;
+
+	private San() {
+	}
+
+	/**
+	 * @param boardManager board manager with the current position
+	 * @param san the move in the standard algebraic notation
+	 * @return the legal move in the packed form (see {@link PackedMove})
+	 * @throws InvalidPgnException in case the move cannot be read, is not legal
+	 *             or is ambiguous
+	 */
+	public static int resolve(BoardManager boardManager, String san) throws InvalidPgnException {
+		char[] chars = san.toCharArray();
+		return resolve(boardManager, new MoveList(), chars, 0, chars.length);
+	}
+
+	/**
+	 * resolves the move without creating objects (except for an invalid move)
+	 * @param boardManager board manager with the current position
+	 * @param legalMoves list the legal moves are generated into (it is cleared
+	 *            first)
+	 * @param san characters of the move in the standard algebraic notation
+	 * @param offset index of the first character of the move
+	 * @param length number of characters of the move
+	 * @return the legal move in the packed form (see {@link PackedMove})
+	 * @throws InvalidPgnException in case the move cannot be read, is not legal
+	 *             or is ambiguous
+	 */
+	public static int resolve(BoardManager boardManager, MoveList legalMoves, char[] san, int offset, int length)
+			throws InvalidPgnException {
+		int end = offset + length;
+		while (end > offset && isSuffix(san[end - 1])) {
+			end--;
+		}
+		if (end == offset) {
+			throw invalidMove(san, offset, length);
+		}
+
+		legalMoves.clear();
+		try {
+			boardManager.generateLegalMoves(legalMoves);
+		} catch (NoKingException e) {
+			throw new InvalidPgnException(e.getMessage());
+		}
+
+		int castlingFile = castlingFile(san, offset, end);
+		if (castlingFile != ANY) {
+			return findCastling(boardManager.getBoard(), legalMoves, castlingFile, san, offset, length);
+		}
+
+		int i = offset;
+		PieceType pieceType = pieceType(san[i]);
+		if (pieceType != PieceType.PAWN) {
+			i++;
+		}
+
+		PieceType promotionPieceType = null;
+		if (pieceType == PieceType.PAWN && end - i > 2 && pieceType(san[end - 1]) != PieceType.PAWN) {
+			promotionPieceType = pieceType(san[end - 1]);
+			if (promotionPieceType == PieceType.KING) {
+				throw invalidMove(san, offset, length);
+			}
+			end--;
+			if (san[end - 1] == '=') {
+				end--;
+			}
+		}
+
+		if (end - i < 2 || !(isFile(san[end - 2])) || !(isRank(san[end - 1]))) {
+			throw invalidMove(san, offset, length);
+		}
+		int to = Bitboards.squareIndex(san[end - 2] - 'a', san[end - 1] - '1');
+
+		int fromFile = ANY;
+		int fromRank = ANY;
+		for (; i < end - 2; i++) {
+			char c = san[i];
+			if (isFile(c)) {
+				fromFile = c - 'a';
+			} else if (isRank(c)) {
+				fromRank = c - '1';
+			} else if (c != 'x' && c != ':' && c != '-') {
+				throw invalidMove(san, offset, length);
+			}
+		}
+
+		Board board = boardManager.getBoard();
+		int found = PackedMove.NONE;
+		for (int j = 0; j < legalMoves.size(); j++) {
+			int move = legalMoves.get(j);
+			int from = PackedMove.from(move);
+			if (PackedMove.to(move) != to || board.getPieceAt(Bitboards.toCoordinate(from)).getType() != pieceType
+					|| (fromFile != ANY && Bitboards.fileOf(from) != fromFile)
+					|| (fromRank != ANY && Bitboards.rankOf(from) != fromRank)
+					|| !(isPromotionMatching(PackedMove.promotionPieceType(move), promotionPieceType))
+					|| (pieceType == PieceType.KING && PackedMove.type(move) == MoveType.CASTLING)) {
+				continue;
+			}
+			if (found != PackedMove.NONE) {
+				throw new InvalidPgnException("Ambiguous move " + new String(san, offset, length) + "!");
+			}
+			found = move;
+		}
+		if (found == PackedMove.NONE) {
+			throw new InvalidPgnException("Illegal move " + new String(san, offset, length) + "!");
+		}
+		return found;
+	}
+
+	/**
+	 * a promotion without the piece type given is read as a promotion to a queen
+	 */
+	private static boolean isPromotionMatching(PieceType movePromotion, PieceType sanPromotion) {
+		if (sanPromotion == null) {
+			return movePromotion == null || movePromotion == PieceType.QUEEN;
+		}
+		return movePromotion == sanPromotion;
+	}
+
+	private static int findCastling(Board board, MoveList legalMoves, int castlingFile, char[] san, int offset,
+			int length) throws InvalidPgnException {
+		for (int j = 0; j < legalMoves.size(); j++) {
+			int move = legalMoves.get(j);
+			if (PackedMove.type(move) == MoveType.CASTLING && Bitboards.fileOf(PackedMove.to(move)) == castlingFile) {
+				return move;
+			}
+		}
+		throw new InvalidPgnException("Illegal move " + new String(san, offset, length) + "!");
+	}
+
+	/**
+	 * @return file the king castles to, {@link #ANY} if the move is not castling
+	 */
+	private static int castlingFile(char[] san, int offset, int end) {
+		int length = end - offset;
+		if (length != 3 && length != 5) {
+			return ANY;
+		}
+		for (int i = offset; i < end; i++) {
+			char expected = (i - offset) % 2 == 0 ? 'O' : '-';
+			char c = san[i];
+			if (c != expected && !(expected == 'O' && c == '0')) {
+				return ANY;
+			}
+		}
+		return length == 3 ? KING_SIDE_FILE : QUEEN_SIDE_FILE;
+	}
+
+	private static PieceType pieceType(char symbol) {
+		switch (symbol) {
+		case 'K':
+			return PieceType.KING;
+		case 'Q':
+			return PieceType.QUEEN;
+		case 'R':
+			return PieceType.ROOK;
+		case 'B':
+			return PieceType.BISHOP;
+		case 'N':
+			return PieceType.KNIGHT;
+		default:
+			return PieceType.PAWN;
+		}
+	}
+
+	private static boolean isSuffix(char c) {
+		return c == '+' || c == '#' || c == '!' || c == '?';
+	}
+
+	private static boolean isFile(char c) {
+		return c >= 'a' && c < 'a' + Board.SIZE;
+	}
+
+	private static boolean isRank(char c) {
+		return c >= '1' && c < '1' + Board.SIZE;
+	}
+
+	private static InvalidPgnException invalidMove(char[] san, int offset, int length) {
+		return new InvalidPgnException("Cannot read move " + new String(san, offset, length) + "!");
+	}
+
+}
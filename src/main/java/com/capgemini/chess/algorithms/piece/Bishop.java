@@ -3,6 +3,8 @@ package com.capgemini.chess.algorithms.piece;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.bitboard.SlidingAttacks;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
@@ -31,7 +33,7 @@ public class Bishop extends Piece {
 		for (int i = (-1) * (Board.SIZE - 1); i < Board.SIZE; i++) {
 			for (int j = -1; j < 2; j++) {
 				if (i != 0 && j != 0) {
-					Coordinate to = new Coordinate(from.getX() + i, from.getY() + i * j);
+					Coordinate to = Coordinate.of(from.getX() + i, from.getY() + i * j);
 					allPossibleMoves = addIfValid(allPossibleMoves, to);
 				}
 			}
@@ -45,11 +47,13 @@ public class Bishop extends Piece {
 	}
 
 	/**
-	 * checks if the way of the piece is free to go
+	 * checks if the way of the piece is free to go (the end point is attacked
+	 * by the bishop with accordance to the occupied squares)
 	 */
 	@Override
 	public boolean isTheWayFreeToGo(Board board, Coordinate from, Coordinate to) {
-		return this.isTheWayFreeDiagonal(board, from, to);
+		return Bitboards.contains(SlidingAttacks.bishopAttacks(Bitboards.squareIndex(from), board.getOccupied()),
+				Bitboards.squareIndex(to));
 	}
 
 }
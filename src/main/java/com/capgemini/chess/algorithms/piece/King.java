@@ -3,6 +3,7 @@ package com.capgemini.chess.algorithms.piece;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.capgemini.chess.algorithms.bitboard.AttackTables;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
@@ -23,21 +24,11 @@ public class King extends Piece {
 
 	/**
 	 * checks where the piece could possible go in the next turn of the game 
-	 * in case of the attack type of move
+	 * in case of the attack type of move (squares are precomputed per start square)
 	 */
 	@Override
 	public List<Coordinate> possibleAttackMoves(Coordinate from) {
-		List<Coordinate> allPossibleMoves = new ArrayList<Coordinate>();
-		for (Coordinate to : possibleAttackMovesDiagonal(from)) {
-			allPossibleMoves = addIfValid(allPossibleMoves, to);
-		}
-		for (Coordinate to : possibleAttackMovesDirY(from)) {
-			allPossibleMoves = addIfValid(allPossibleMoves, to);
-		}
-		for (Coordinate to : possibleAttackMovesDirX(from)) {
-			allPossibleMoves = addIfValid(allPossibleMoves, to);
-		}
-		return allPossibleMoves;
+		return AttackTables.kingAttackSquares(from);
 	}
 
 	@Override
@@ -62,46 +53,11 @@ public class King extends Piece {
 		List<Coordinate> allPossibleCastlingMoves = new ArrayList<Coordinate>();
 		for (int i = -1; i < 2; i++) {
 			if (i != 0) {
-				Coordinate to = new Coordinate(from.getX() + 2 * i, from.getY());
+				Coordinate to = Coordinate.of(from.getX() + 2 * i, from.getY());
 				allPossibleCastlingMoves = addIfValid(allPossibleCastlingMoves, to);
 			}
 		}
 		return allPossibleCastlingMoves;
 	}
 
-	private List<Coordinate> possibleAttackMovesDiagonal(Coordinate from) {
-		List<Coordinate> allPossibleMovesDiagonal = new ArrayList<Coordinate>();
-		for (int i = -1; i < 2; i++) {
-			for (int j = -1; j < 2; j++) {
-				if (i != 0 && j != 0) {
-					Coordinate to = new Coordinate(from.getX() + i, from.getY() + i * j);
-					allPossibleMovesDiagonal = addIfValid(allPossibleMovesDiagonal, to);
-				}
-			}
-		}
-		return allPossibleMovesDiagonal;
-	}
-
-	private List<Coordinate> possibleAttackMovesDirY(Coordinate from) {
-		List<Coordinate> allPossibleMovesDirY = new ArrayList<Coordinate>();
-		for (int i = -1; i < 2; i++) {
-			if (i != 0) {
-				Coordinate to = new Coordinate(from.getX(), from.getY() + i);
-				allPossibleMovesDirY = addIfValid(allPossibleMovesDirY, to);
-			}
-		}
-		return allPossibleMovesDirY;
-	}
-
-	private List<Coordinate> possibleAttackMovesDirX(Coordinate from) {
-		List<Coordinate> allPossibleMovesDirX = new ArrayList<Coordinate>();
-		for (int i = -1; i < 2; i++) {
-			if (i != 0) {
-				Coordinate to = new Coordinate(from.getX() + i, from.getY());
-				allPossibleMovesDirX = addIfValid(allPossibleMovesDirX, to);
-			}
-		}
-		return allPossibleMovesDirX;
-	}
-
 }
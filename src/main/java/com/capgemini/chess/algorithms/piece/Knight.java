@@ -1,8 +1,8 @@
 package com.capgemini.chess.algorithms.piece;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import com.capgemini.chess.algorithms.bitboard.AttackTables;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
@@ -23,22 +23,11 @@ public class Knight extends Piece {
 
 	/**
 	 * checks where the piece could possible go in the next turn of the game 
-	 * in case of the attack type of move
+	 * in case of the attack type of move (squares are precomputed per start square)
 	 */
 	@Override
 	public List<Coordinate> possibleAttackMoves(Coordinate from) {
-		List<Coordinate> allPossibleMoves = new ArrayList<Coordinate>();
-		for (int i = -1; i < 2; i++) {
-			for (int j = -1; j < 2; j++) {
-				if (i != 0 && j != 0) {
-					Coordinate toShort = new Coordinate(from.getX() + 2 * i, from.getY() + 1 * j);
-					allPossibleMoves = addIfValid(allPossibleMoves, toShort);
-					Coordinate toLong = new Coordinate(from.getX() + 1 * i, from.getY() + 2 * j);
-					allPossibleMoves = addIfValid(allPossibleMoves, toLong);
-				}
-			}
-		}
-		return allPossibleMoves;
+		return AttackTables.knightAttackSquares(from);
 	}
 
 	@Override
@@ -1,8 +1,8 @@
 package com.capgemini.chess.algorithms.piece;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import com.capgemini.chess.algorithms.bitboard.AttackTables;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
@@ -10,12 +10,16 @@ import com.capgemini.chess.algorithms.data.generated.Board;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidColorException;
 
 /**
- * an object representation of a pawn chess piece before and during its first move
+ * an object representation of a pawn chess piece (the two steps move is possible
+ * only from the start row of the pawn)
  * @author EMALARCZ
  *
  */
 public class Pawn extends Piece {
 
+	public static final int WHITE_START_ROW = 1;
+	public static final int BLACK_START_ROW = Board.SIZE - 2;
+
 	private final PieceType type = PieceType.PAWN;
 
 	public Pawn(Color color) {
@@ -24,14 +28,14 @@ public class Pawn extends Piece {
 
 	/**
 	 * checks where the piece could possible go in the next turn of the game 
-	 * in case of the attack type of move
+	 * in case of the attack type of move (squares are precomputed per start square)
 	 */
 	@Override
 	public List<Coordinate> possibleAttackMoves(Coordinate from) throws InvalidColorException {
 		if (this.getColor() == Color.WHITE) {
-			return possibleAttackMovesForFirstMoveWhite(from);
+			return AttackTables.pawnPushSquares(Color.WHITE, from);
 		} else if (this.getColor() == Color.BLACK) {
-			return possibleAttackMovesForFirstMoveBlack(from);
+			return AttackTables.pawnPushSquares(Color.BLACK, from);
 		}
 		throw new InvalidColorException("The Pawn has an invalid color!");
 	}
@@ -39,19 +43,20 @@ public class Pawn extends Piece {
 	@Override
 	public List<Coordinate> possibleCaptureMoves(Coordinate from) throws InvalidColorException {
 		if (this.getColor() == Color.WHITE) {
-			return possibleCaptureMovesWhite(from);
+			return AttackTables.pawnCaptureSquares(Color.WHITE, from);
 		} else if (this.getColor() == Color.BLACK) {
-			return possibleCaptureMovesBlack(from);
+			return AttackTables.pawnCaptureSquares(Color.BLACK, from);
 		}
 		throw new InvalidColorException("The Pawn has an invalid color!");
 	}
 
 	/**
-	 * checks if the way of the piece is free to go
+	 * checks if the way of the piece is free to go (the square skipped by the two
+	 * steps move must be empty)
 	 */
 	@Override
 	public boolean isTheWayFreeToGo(Board board, Coordinate from, Coordinate to) {
-		return true;
+		return this.isTheWayFreeDirY(board, from, to);
 	}
 
 	@Override
@@ -59,41 +64,4 @@ public class Pawn extends Piece {
 		return type;
 	}
 
-	private List<Coordinate> possibleAttackMovesForFirstMoveWhite(Coordinate from) {
-		List<Coordinate> allPossibleAttackMovesWhite = new ArrayList<Coordinate>();
-		Coordinate to1 = new Coordinate(from.getX(), from.getY() + 1);
-		Coordinate to2 = new Coordinate(from.getX(), from.getY() + 2);
-		allPossibleAttackMovesWhite = addIfValid(allPossibleAttackMovesWhite, to1);
-		allPossibleAttackMovesWhite = addIfValid(allPossibleAttackMovesWhite, to2);
-		return allPossibleAttackMovesWhite;
-	}
-
-	private List<Coordinate> possibleAttackMovesForFirstMoveBlack(Coordinate from) {
-		List<Coordinate> allPossibleAttackMovesBlack = new ArrayList<Coordinate>();
-		Coordinate to1 = new Coordinate(from.getX(), from.getY() - 1);
-		Coordinate to2 = new Coordinate(from.getX(), from.getY() - 2);
-		allPossibleAttackMovesBlack = addIfValid(allPossibleAttackMovesBlack, to1);
-		allPossibleAttackMovesBlack = addIfValid(allPossibleAttackMovesBlack, to2);
-		return allPossibleAttackMovesBlack;
-	}
-
-	private List<Coordinate> possibleCaptureMovesWhite(Coordinate from) {
-		List<Coordinate> allPossibleCaptureMovesWhite = new ArrayList<Coordinate>();
-		Coordinate toRight = new Coordinate(from.getX() + 1, from.getY() + 1);
-		allPossibleCaptureMovesWhite = addIfValid(allPossibleCaptureMovesWhite, toRight);
-		Coordinate toLeft = new Coordinate(from.getX() - 1, from.getY() + 1);
-		allPossibleCaptureMovesWhite = addIfValid(allPossibleCaptureMovesWhite, toLeft);
-		;
-		return allPossibleCaptureMovesWhite;
-	}
-
-	private List<Coordinate> possibleCaptureMovesBlack(Coordinate from) {
-		List<Coordinate> allPossibleCaptureMovesBlack = new ArrayList<Coordinate>();
-		Coordinate toRight = new Coordinate(from.getX() - 1, from.getY() - 1);
-		allPossibleCaptureMovesBlack = addIfValid(allPossibleCaptureMovesBlack, toRight);
-		Coordinate toLeft = new Coordinate(from.getX() + 1, from.getY() - 1);
-		allPossibleCaptureMovesBlack = addIfValid(allPossibleCaptureMovesBlack, toLeft);
-		return allPossibleCaptureMovesBlack;
-	}
-
 }
@@ -58,6 +58,29 @@ public abstract class Piece {
 		return this.color;
 	}
 
+	/**
+	 * creates a chess piece of the given type and colour
+	 * @param type type of the piece
+	 * @param color colour of the piece
+	 * @return created piece
+	 */
+	public static Piece createPiece(PieceType type, Color color) {
+		switch (type) {
+		case KING:
+			return new King(color);
+		case QUEEN:
+			return new Queen(color);
+		case BISHOP:
+			return new Bishop(color);
+		case KNIGHT:
+			return new Knight(color);
+		case ROOK:
+			return new Rook(color);
+		default:
+			return new Pawn(color);
+		}
+	}
+
 	/**
 	 * adds the coordinate to the parameter list of coordinates if the parameter coordinate is valid
 	 * due to the size of the considered board
@@ -89,24 +112,6 @@ public abstract class Piece {
 		return true;
 	}
 
-	protected boolean isTheWayFreeDirX(Board board, Coordinate from, Coordinate to) {
-		int start = from.getX();
-		int stop = to.getX();
-		if (start == stop) {
-			return true;
-		}
-		int absDistance = Math.abs(stop - start);
-		int direction = (stop - start) / absDistance;
-		for (int i = 1; i < absDistance; i++) {
-			Coordinate squareOnTheWay = new Coordinate(from.getX() + i * direction, from.getY());
-			Piece pieceOnTheWay = board.getPieceAt(squareOnTheWay);
-			if (pieceOnTheWay != null && pieceOnTheWay.getType() != PieceType.EN_PASSANT_PAWN) {
-				return false;
-			}
-		}
-		return true;
-	}
-
 	protected boolean isTheWayFreeDirY(Board board, Coordinate from, Coordinate to) {
 		int start = from.getY();
 		int stop = to.getY();
@@ -116,32 +121,8 @@ public abstract class Piece {
 		int absDistance = Math.abs(stop - start);
 		int direction = (stop - start) / absDistance;
 		for (int i = 1; i < absDistance; i++) {
-			Coordinate squareOnTheWay = new Coordinate(from.getX(), from.getY() + i * direction);
-			Piece pieceOnTheWay = board.getPieceAt(squareOnTheWay);
-			if (pieceOnTheWay != null && pieceOnTheWay.getType() != PieceType.EN_PASSANT_PAWN) {
-				return false;
-			}
-		}
-		return true;
-	}
-
-	protected boolean isTheWayFreeDiagonal(Board board, Coordinate from, Coordinate to) {
-		int startX = from.getX();
-		int stopX = to.getX();
-		int startY = from.getY();
-		int stopY = to.getY();
-		if (startX == stopX || startY == stopY) {
-			return true;
-		}
-		int absDistanceX = Math.abs(stopX - startX);
-		int directionX = (stopX - startX) / absDistanceX;
-		int absDistanceY = Math.abs(stopY - startY);
-		int directionY = (stopY - startY) / absDistanceY;
-
-		for (int i = 1; i < absDistanceX; i++) {
-			Coordinate squareOnTheWay = new Coordinate(from.getX() + i * directionX, from.getY() + i * directionY);
-			Piece pieceOnTheWay = board.getPieceAt(squareOnTheWay);
-			if (pieceOnTheWay != null && pieceOnTheWay.getType() != PieceType.EN_PASSANT_PAWN) {
+			Coordinate squareOnTheWay = Coordinate.of(from.getX(), from.getY() + i * direction);
+			if (board.getPieceAt(squareOnTheWay) != null) {
 				return false;
 			}
 		}
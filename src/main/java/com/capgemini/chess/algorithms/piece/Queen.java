@@ -3,6 +3,8 @@ package com.capgemini.chess.algorithms.piece;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.bitboard.SlidingAttacks;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
@@ -46,12 +48,13 @@ public class Queen extends Piece {
 	}
 
 	/**
-	 * checks if the way of the piece is free to go
+	 * checks if the way of the piece is free to go (the end point is attacked
+	 * by the queen with accordance to the occupied squares)
 	 */
 	@Override
 	public boolean isTheWayFreeToGo(Board board, Coordinate from, Coordinate to) {
-		return (this.isTheWayFreeDirX(board, from, to) && this.isTheWayFreeDirY(board, from, to)
-				&& this.isTheWayFreeDiagonal(board, from, to));
+		return Bitboards.contains(SlidingAttacks.queenAttacks(Bitboards.squareIndex(from), board.getOccupied()),
+				Bitboards.squareIndex(to));
 	}
 
 	private List<Coordinate> possibleAttackMovesDiagonal(Coordinate from) {
@@ -59,7 +62,7 @@ public class Queen extends Piece {
 		for (int i = (-1) * (Board.SIZE - 1); i < Board.SIZE; i++) {
 			for (int j = -1; j < 2; j++) {
 				if (i != 0 && j != 0) {
-					Coordinate to = new Coordinate(from.getX() + i, from.getY() + i * j);
+					Coordinate to = Coordinate.of(from.getX() + i, from.getY() + i * j);
 					allPossibleMovesDiagonal = addIfValid(allPossibleMovesDiagonal, to);
 				}
 			}
@@ -71,7 +74,7 @@ public class Queen extends Piece {
 		List<Coordinate> allPossibleMovesDirY = new ArrayList<Coordinate>();
 		for (int i = (-1) * (Board.SIZE - 1); i < Board.SIZE; i++) {
 			if (i != 0) {
-				Coordinate to = new Coordinate(from.getX(), from.getY() + i);
+				Coordinate to = Coordinate.of(from.getX(), from.getY() + i);
 				allPossibleMovesDirY = addIfValid(allPossibleMovesDirY, to);
 			}
 		}
@@ -82,7 +85,7 @@ public class Queen extends Piece {
 		List<Coordinate> allPossibleMovesDirX = new ArrayList<Coordinate>();
 		for (int i = (-1) * (Board.SIZE - 1); i < Board.SIZE; i++) {
 			if (i != 0) {
-				Coordinate to = new Coordinate(from.getX() + i, from.getY());
+				Coordinate to = Coordinate.of(from.getX() + i, from.getY());
 				allPossibleMovesDirX = addIfValid(allPossibleMovesDirX, to);
 			}
 		}
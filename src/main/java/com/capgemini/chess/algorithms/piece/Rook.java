@@ -3,6 +3,8 @@ package com.capgemini.chess.algorithms.piece;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.bitboard.SlidingAttacks;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
@@ -43,18 +45,20 @@ public class Rook extends Piece {
 	}
 
 	/**
-	 * checks if the way of the piece is free to go
+	 * checks if the way of the piece is free to go (the end point is attacked
+	 * by the rook with accordance to the occupied squares)
 	 */
 	@Override
 	public boolean isTheWayFreeToGo(Board board, Coordinate from, Coordinate to) {
-		return (this.isTheWayFreeDirX(board, from, to) && this.isTheWayFreeDirY(board, from, to));
+		return Bitboards.contains(SlidingAttacks.rookAttacks(Bitboards.squareIndex(from), board.getOccupied()),
+				Bitboards.squareIndex(to));
 	}
 
 	private List<Coordinate> possibleAttackMovesDirY(Coordinate from) {
 		List<Coordinate> allPossibleMovesDirY = new ArrayList<Coordinate>();
 		for (int i = (-1) * (Board.SIZE - 1); i < Board.SIZE; i++) {
 			if (i != 0) {
-				Coordinate to = new Coordinate(from.getX(), from.getY() + i);
+				Coordinate to = Coordinate.of(from.getX(), from.getY() + i);
 				allPossibleMovesDirY = addIfValid(allPossibleMovesDirY, to);
 				;
 			}
@@ -66,7 +70,7 @@ public class Rook extends Piece {
 		List<Coordinate> allPossibleMovesDirX = new ArrayList<Coordinate>();
 		for (int i = (-1) * (Board.SIZE - 1); i < Board.SIZE; i++) {
 			if (i != 0) {
-				Coordinate to = new Coordinate(from.getX() + i, from.getY());
+				Coordinate to = Coordinate.of(from.getX() + i, from.getY());
 				allPossibleMovesDirX = addIfValid(allPossibleMovesDirX, to);
 			}
 		}
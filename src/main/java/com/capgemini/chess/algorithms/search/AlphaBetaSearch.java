@@ -0,0 +1,453 @@
+package com.capgemini.chess.algorithms.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.Level;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.MoveGenerator;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+import com.capgemini.chess.algorithms.move.Move;
+import com.capgemini.chess.algorithms.move.MoveList;
+import com.capgemini.chess.algorithms.move.PackedMove;
+import com.capgemini.chess.algorithms.piece.Piece;
+
+/**
+ * chooses a move by the negamax search with alpha-beta pruning and iterative
+ * deepening. Results of searched positions are kept in a transposition table,
+ * which cuts positions reached again by other move orders. Every iteration
+ * searches the principal variation of the previous one (or the move stored
+ * in the table) first, captures are ordered by the most valuable victim and
+ * the least valuable attacker, followed by the quiet moves which caused a
+ * cut-off at the same ply (killer moves). Leaves are resolved by the
+ * quiescence search of captures and promotions. The moves are made and taken
+ * back on a single board in the packed form and generated by move generators
+ * and into lists kept for every ply, so the search does not create objects
+ * per node.
+ *
+ * The object keeps the state of the current search and is not thread-safe,
+ * every thread needs its own search (the transposition table can be shared).
+ *
+ */
+public class AlphaBetaSearch {
+
+	public static final int MAX_PLY = 64;
+	public static final int MATE_SCORE = 30000;
+	public static final int DEFAULT_TABLE_MEGABYTES = 16;
+
+	private static final int INFINITY = 32000;
+	private static final int DRAW_SCORE = 0;
+	private static final int LIMITS_CHECK_INTERVAL = 1024;
+	private static final int MAX_MOVES = 256;
+	private static final int KILLERS = 2;
+
+	private static final int FIRST_MOVE_ORDER = 1 << 24;
+	private static final int CAPTURE_ORDER = 1 << 20;
+	private static final int PROMOTION_ORDER = 1 << 19;
+	private static final int KILLER_ORDER = 1 << 18;
+
+	private final Evaluator evaluator;
+	private final TranspositionTable transpositionTable;
+	private final MoveGenerator[] moveGenerators = new MoveGenerator[MAX_PLY + 1];
+	private final MoveList[] moveLists = new MoveList[MAX_PLY + 1];
+	private final int[][] moveOrders = new int[MAX_PLY + 1][MAX_MOVES];
+	private final int[][] principalVariations = new int[MAX_PLY + 1][MAX_PLY + 1];
+	private final int[] principalVariationLengths = new int[MAX_PLY + 1];
+	private final int[][] killerMoves = new int[MAX_PLY + 1][KILLERS];
+
+	private BoardManager boardManager;
+	private int[] previousPrincipalVariation = new int[0];
+	private long nodes;
+	private long deadline;
+	private long maxNodes;
+	private boolean stoppable;
+	private boolean stopped;
+
+	public AlphaBetaSearch() {
+		this(new MaterialEvaluator());
+	}
+
+	/**
+	 * @param evaluator evaluation of the positions reached by the search
+	 */
+	public AlphaBetaSearch(Evaluator evaluator) {
+		this(evaluator, new TranspositionTable(DEFAULT_TABLE_MEGABYTES));
+	}
+
+	/**
+	 * @param evaluator evaluation of the positions reached by the search
+	 * @param transpositionTable table of the searched positions (it can be
+	 *            shared by searches run in parallel)
+	 */
+	public AlphaBetaSearch(Evaluator evaluator, TranspositionTable transpositionTable) {
+		this.evaluator = evaluator;
+		this.transpositionTable = transpositionTable;
+		for (int i = 0; i < this.moveLists.length; i++) {
+			this.moveGenerators[i] = new MoveGenerator();
+			this.moveLists[i] = new MoveList(MAX_MOVES);
+		}
+	}
+
+	/**
+	 * searches the best move for the player who is to perform the next move
+	 * with the limits of the level
+	 * @see #search(Board, SearchLimits)
+	 */
+	public SearchResult search(Board board, Level level) throws NoKingException {
+		return search(board, SearchLimits.forLevel(level));
+	}
+
+	/**
+	 * searches the best move for the player who is to perform the next move
+	 * deepening the search until a limit is reached
+	 * @param board searched position (it is not changed)
+	 * @param limits limits of the search
+	 * @return the best move of the last completed iteration
+	 * @throws NoKingException in case there is no king of the player to move on the board
+	 */
+	public SearchResult search(Board board, SearchLimits limits) throws NoKingException {
+		long start = System.nanoTime();
+		this.boardManager = new BoardManager(new Board(board));
+		this.previousPrincipalVariation = new int[0];
+		this.nodes = 0;
+		this.deadline = limits.getTimeMillis() == SearchLimits.NO_LIMIT ? Long.MAX_VALUE
+				: start + limits.getTimeMillis() * 1_000_000;
+		this.maxNodes = limits.getMaxNodes() == SearchLimits.NO_LIMIT ? Long.MAX_VALUE : limits.getMaxNodes();
+		this.stoppable = false;
+		this.stopped = false;
+		for (int[] killers : this.killerMoves) {
+			Arrays.fill(killers, PackedMove.NONE);
+		}
+		this.transpositionTable.newSearch();
+
+		int score = 0;
+		int completedDepth = 0;
+		for (int depth = 1; depth <= limits.getMaxDepth(); depth++) {
+			int iterationScore = negamax(depth, 0, -INFINITY, INFINITY, true);
+			if (this.stopped) {
+				break;
+			}
+			score = iterationScore;
+			completedDepth = depth;
+			this.previousPrincipalVariation = Arrays.copyOf(this.principalVariations[0],
+					this.principalVariationLengths[0]);
+			this.stoppable = true;
+			if (this.previousPrincipalVariation.length == 0 || Math.abs(score) >= MATE_SCORE - MAX_PLY) {
+				// no legal move or a checkmate found, deeper iterations would not change the move
+				break;
+			}
+		}
+
+		List<Move> principalVariation = toMoves(this.previousPrincipalVariation);
+		return new SearchResult(score, completedDepth, principalVariation, this.nodes, System.nanoTime() - start);
+	}
+
+	private int negamax(int depth, int ply, int alpha, int beta, boolean onPrincipalVariation)
+			throws NoKingException {
+		this.principalVariationLengths[ply] = ply;
+		if (visitNode()) {
+			return 0;
+		}
+		Board board = this.boardManager.getBoard();
+		if (ply > 0 && isDraw(board)) {
+			return DRAW_SCORE;
+		}
+		if (depth <= 0 || ply >= MAX_PLY) {
+			return quiescence(ply, alpha, beta);
+		}
+
+		long key = board.getZobristKey();
+		long entry = this.transpositionTable.probe(key);
+		int tableMove = PackedMove.NONE;
+		if (entry != TranspositionTable.NO_ENTRY) {
+			tableMove = TranspositionTable.move(entry);
+			if (ply > 0 && TranspositionTable.depth(entry) >= depth) {
+				int tableScore = fromTableScore(TranspositionTable.score(entry), ply);
+				int bound = TranspositionTable.bound(entry);
+				if (bound == TranspositionTable.EXACT || (bound == TranspositionTable.LOWER_BOUND && tableScore >= beta)
+						|| (bound == TranspositionTable.UPPER_BOUND && tableScore <= alpha)) {
+					return tableScore;
+				}
+			}
+		}
+
+		MoveGenerator moveGenerator = this.moveGenerators[ply];
+		moveGenerator.setPosition(board, nextMoveColor(board));
+		boolean inCheck = moveGenerator.isInCheck();
+		MoveList moves = this.moveLists[ply];
+		moves.clear();
+		moveGenerator.generateLegalMoves(moves);
+		if (moves.isEmpty()) {
+			return inCheck ? -MATE_SCORE + ply : DRAW_SCORE;
+		}
+		int searchedDepth = depth;
+		if (inCheck) {
+			// a check is searched one ply deeper so the evasions are not cut by the horizon
+			depth++;
+		}
+
+		int principalVariationMove = onPrincipalVariation && ply < this.previousPrincipalVariation.length
+				? this.previousPrincipalVariation[ply] : PackedMove.NONE;
+		orderMoves(board, moves, ply, principalVariationMove != PackedMove.NONE ? principalVariationMove : tableMove);
+
+		int originalAlpha = alpha;
+		int bestScore = -INFINITY;
+		int bestMove = PackedMove.NONE;
+		for (int i = 0; i < moves.size(); i++) {
+			int move = selectMove(moves, ply, i);
+			this.boardManager.makeMove(move);
+			int score = -negamax(depth - 1, ply + 1, -beta, -alpha, move == principalVariationMove);
+			this.boardManager.unmakeMove();
+			if (this.stopped) {
+				return 0;
+			}
+			if (score > bestScore) {
+				bestScore = score;
+				bestMove = move;
+				if (score > alpha) {
+					alpha = score;
+					updatePrincipalVariation(ply, move);
+					if (score >= beta) {
+						addKillerMove(ply, move);
+						break;
+					}
+				}
+			}
+		}
+
+		int bound = bestScore >= beta ? TranspositionTable.LOWER_BOUND
+				: bestScore > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER_BOUND;
+		this.transpositionTable.store(key, bestMove, searchedDepth, bound, toTableScore(bestScore, ply));
+		return bestScore;
+	}
+
+	/**
+	 * searches captures and promotions until the position is quiet (all moves
+	 * when the king is in check), the player can stand pat on the evaluation
+	 * otherwise (a stalemate is not recognized here)
+	 */
+	private int quiescence(int ply, int alpha, int beta) throws NoKingException {
+		this.principalVariationLengths[ply] = ply;
+		if (visitNode()) {
+			return 0;
+		}
+		Board board = this.boardManager.getBoard();
+		MoveGenerator moveGenerator = this.moveGenerators[ply];
+		moveGenerator.setPosition(board, nextMoveColor(board));
+		boolean inCheck = moveGenerator.isInCheck();
+
+		// the evaluation is checked before the moves are generated, as it cuts most of the nodes
+		int bestScore = -INFINITY;
+		if (!(inCheck)) {
+			bestScore = this.evaluator.evaluate(board);
+			if (bestScore >= beta || ply >= MAX_PLY) {
+				return bestScore;
+			}
+			if (bestScore > alpha) {
+				alpha = bestScore;
+			}
+		} else if (ply >= MAX_PLY) {
+			return this.evaluator.evaluate(board);
+		}
+
+		MoveList moves = this.moveLists[ply];
+		moves.clear();
+		moveGenerator.generateLegalMoves(moves);
+		if (inCheck && moves.isEmpty()) {
+			return -MATE_SCORE + ply;
+		}
+		if (!(inCheck)) {
+			keepTacticalMoves(moves);
+		}
+
+		orderMoves(board, moves, ply, PackedMove.NONE);
+		for (int i = 0; i < moves.size(); i++) {
+			int move = selectMove(moves, ply, i);
+			this.boardManager.makeMove(move);
+			int score = -quiescence(ply + 1, -beta, -alpha);
+			this.boardManager.unmakeMove();
+			if (this.stopped) {
+				return 0;
+			}
+			if (score > bestScore) {
+				bestScore = score;
+				if (score > alpha) {
+					alpha = score;
+					updatePrincipalVariation(ply, move);
+					if (score >= beta) {
+						break;
+					}
+				}
+			}
+		}
+		return bestScore;
+	}
+
+	/**
+	 * counts the node and checks the limits from time to time
+	 * @return true if the search is stopped
+	 */
+	private boolean visitNode() {
+		this.nodes++;
+		if (this.stoppable && (this.nodes % LIMITS_CHECK_INTERVAL == 0 || this.nodes >= this.maxNodes)) {
+			this.stopped = this.nodes >= this.maxNodes || System.nanoTime() >= this.deadline;
+		}
+		return this.stopped;
+	}
+
+	/**
+	 * mate scores are stored as the distance to the mate from the position, as
+	 * the position can be reached at another ply
+	 */
+	private static int toTableScore(int score, int ply) {
+		if (score >= MATE_SCORE - MAX_PLY) {
+			return score + ply;
+		}
+		if (score <= -MATE_SCORE + MAX_PLY) {
+			return score - ply;
+		}
+		return score;
+	}
+
+	private static int fromTableScore(int score, int ply) {
+		if (score >= MATE_SCORE - MAX_PLY) {
+			return score - ply;
+		}
+		if (score <= -MATE_SCORE + MAX_PLY) {
+			return score + ply;
+		}
+		return score;
+	}
+
+	/**
+	 * a position repeated once within the search or after 50 moves without a
+	 * capture or a pawn move is scored as a draw
+	 */
+	private static boolean isDraw(Board board) {
+		return board.getHalfmoveClock() >= 100 || board.countRepetitionsOfLastPosition() >= 2;
+	}
+
+	private static Color nextMoveColor(Board board) {
+		return board.getPly() % 2 == 0 ? Color.WHITE : Color.BLACK;
+	}
+
+	private static void keepTacticalMoves(MoveList moves) {
+		int kept = 0;
+		for (int i = 0; i < moves.size(); i++) {
+			int move = moves.get(i);
+			if (PackedMove.isCapture(move) || PackedMove.promotionPieceType(move) != null) {
+				moves.set(kept++, move);
+			}
+		}
+		while (moves.size() > kept) {
+			moves.removeLast();
+		}
+	}
+
+	/**
+	 * @param firstMove move searched first (of the principal variation or stored
+	 *            in the transposition table), {@link PackedMove#NONE} if none
+	 */
+	private void orderMoves(Board board, MoveList moves, int ply, int firstMove) {
+		int[] orders = this.moveOrders[ply];
+		int[] killers = this.killerMoves[ply];
+		for (int i = 0; i < moves.size(); i++) {
+			int move = moves.get(i);
+			int order = 0;
+			if (move == firstMove) {
+				order = FIRST_MOVE_ORDER;
+			} else if (PackedMove.isCapture(move)) {
+				order = CAPTURE_ORDER + 16 * victimValue(board, move) - attackerValue(board, move);
+			} else if (PackedMove.promotionPieceType(move) != null) {
+				order = PROMOTION_ORDER + MaterialEvaluator.PIECE_VALUES[PackedMove.promotionPieceType(move).ordinal()];
+			} else if (move == killers[0]) {
+				order = KILLER_ORDER + 1;
+			} else if (move == killers[1]) {
+				order = KILLER_ORDER;
+			}
+			orders[i] = order;
+		}
+	}
+
+	private static int victimValue(Board board, int move) {
+		if (PackedMove.type(move) == MoveType.EN_PASSANT) {
+			return MaterialEvaluator.PIECE_VALUES[PieceType.PAWN.ordinal()];
+		}
+		Piece victim = board.getPieceAt(Bitboards.toCoordinate(PackedMove.to(move)));
+		return MaterialEvaluator.PIECE_VALUES[victim.getType().ordinal()];
+	}
+
+	private static int attackerValue(Board board, int move) {
+		Piece attacker = board.getPieceAt(Bitboards.toCoordinate(PackedMove.from(move)));
+		return attacker.getType() == PieceType.KING ? MaterialEvaluator.PIECE_VALUES[PieceType.QUEEN.ordinal()]
+				: MaterialEvaluator.PIECE_VALUES[attacker.getType().ordinal()];
+	}
+
+	/**
+	 * moves the best ordered of the remaining moves to the given index (the
+	 * moves are sorted lazily, as a cut-off makes sorting of the rest useless)
+	 */
+	private int selectMove(MoveList moves, int ply, int index) {
+		int[] orders = this.moveOrders[ply];
+		int best = index;
+		for (int i = index + 1; i < moves.size(); i++) {
+			if (orders[i] > orders[best]) {
+				best = i;
+			}
+		}
+		int move = moves.get(best);
+		if (best != index) {
+			moves.set(best, moves.get(index));
+			moves.set(index, move);
+			int order = orders[best];
+			orders[best] = orders[index];
+			orders[index] = order;
+		}
+		return move;
+	}
+
+	private void updatePrincipalVariation(int ply, int move) {
+		int[] variation = this.principalVariations[ply];
+		int[] childVariation = this.principalVariations[ply + 1];
+		int childLength = this.principalVariationLengths[ply + 1];
+		variation[ply] = move;
+		System.arraycopy(childVariation, ply + 1, variation, ply + 1, childLength - ply - 1);
+		this.principalVariationLengths[ply] = childLength;
+	}
+
+	private void addKillerMove(int ply, int move) {
+		if (PackedMove.isCapture(move) || PackedMove.promotionPieceType(move) != null) {
+			return;
+		}
+		int[] killers = this.killerMoves[ply];
+		if (killers[0] != move) {
+			killers[1] = killers[0];
+			killers[0] = move;
+		}
+	}
+
+	/**
+	 * unpacks the moves keeping the moved pieces, which are read by replaying
+	 * the moves on the board
+	 */
+	private List<Move> toMoves(int[] packedMoves) {
+		List<Move> moves = new ArrayList<Move>(packedMoves.length);
+		Board board = this.boardManager.getBoard();
+		for (int move : packedMoves) {
+			Piece movedPiece = board.getPieceAt(Bitboards.toCoordinate(PackedMove.from(move)));
+			moves.add(PackedMove.toMove(PackedMove.withMovedPiece(move, movedPiece)));
+			this.boardManager.makeMove(move);
+		}
+		for (int i = 0; i < packedMoves.length; i++) {
+			this.boardManager.unmakeMove();
+		}
+		return moves;
+	}
+
+}
@@ -0,0 +1,19 @@
+package com.capgemini.chess.algorithms.search;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * static evaluation of positions reached by {@link AlphaBetaSearch}
+ *
+ */
+@FunctionalInterface
+public interface Evaluator {
+
+	/**
+	 * @param board evaluated position (it must not be changed)
+	 * @return score of the position in centipawns from the point of view of the
+	 *         player who is to perform the next move
+	 */
+	int evaluate(Board board);
+
+}
@@ -0,0 +1,111 @@
+package com.capgemini.chess.algorithms.search;
+
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * evaluates material and placement of the pieces - every piece is worth its
+ * value and a bonus of the square it stands on. The piece-square tables are
+ * given from the white player's side with the 8th row first and are mirrored
+ * for the black pieces.
+ *
+ */
+public class MaterialEvaluator implements Evaluator {
+
+	/**
+	 * values of the piece types in centipawns (indexed by the ordinal)
+	 */
+	static final int[] PIECE_VALUES = new int[PieceType.values().length];
+
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+	private static final int[][] SQUARE_BONUSES = new int[PIECE_TYPES.length][];
+	private static final int FLIP_RANKS = 56;
+
+	static {
+		PIECE_VALUES[PieceType.KING.ordinal()] = 0;
+		PIECE_VALUES[PieceType.QUEEN.ordinal()] = 900;
+		PIECE_VALUES[PieceType.ROOK.ordinal()] = 500;
+		PIECE_VALUES[PieceType.BISHOP.ordinal()] = 330;
+		PIECE_VALUES[PieceType.KNIGHT.ordinal()] = 320;
+		PIECE_VALUES[PieceType.PAWN.ordinal()] = 100;
+
+		SQUARE_BONUSES[PieceType.PAWN.ordinal()] = new int[] {
+				0, 0, 0, 0, 0, 0, 0, 0,
+				50, 50, 50, 50, 50, 50, 50, 50,
+				10, 10, 20, 30, 30, 20, 10, 10,
+				5, 5, 10, 25, 25, 10, 5, 5,
+				0, 0, 0, 20, 20, 0, 0, 0,
+				5, -5, -10, 0, 0, -10, -5, 5,
+				5, 10, 10, -20, -20, 10, 10, 5,
+				0, 0, 0, 0, 0, 0, 0, 0 };
+		SQUARE_BONUSES[PieceType.KNIGHT.ordinal()] = new int[] {
+				-50, -40, -30, -30, -30, -30, -40, -50,
+				-40, -20, 0, 0, 0, 0, -20, -40,
+				-30, 0, 10, 15, 15, 10, 0, -30,
+				-30, 5, 15, 20, 20, 15, 5, -30,
+				-30, 0, 15, 20, 20, 15, 0, -30,
+				-30, 5, 10, 15, 15, 10, 5, -30,
+				-40, -20, 0, 5, 5, 0, -20, -40,
+				-50, -40, -30, -30, -30, -30, -40, -50 };
+		SQUARE_BONUSES[PieceType.BISHOP.ordinal()] = new int[] {
+				-20, -10, -10, -10, -10, -10, -10, -20,
+				-10, 0, 0, 0, 0, 0, 0, -10,
+				-10, 0, 5, 10, 10, 5, 0, -10,
+				-10, 5, 5, 10, 10, 5, 5, -10,
+				-10, 0, 10, 10, 10, 10, 0, -10,
+				-10, 10, 10, 10, 10, 10, 10, -10,
+				-10, 5, 0, 0, 0, 0, 5, -10,
+				-20, -10, -10, -10, -10, -10, -10, -20 };
+		SQUARE_BONUSES[PieceType.ROOK.ordinal()] = new int[] {
+				0, 0, 0, 0, 0, 0, 0, 0,
+				5, 10, 10, 10, 10, 10, 10, 5,
+				-5, 0, 0, 0, 0, 0, 0, -5,
+				-5, 0, 0, 0, 0, 0, 0, -5,
+				-5, 0, 0, 0, 0, 0, 0, -5,
+				-5, 0, 0, 0, 0, 0, 0, -5,
+				-5, 0, 0, 0, 0, 0, 0, -5,
+				0, 0, 0, 5, 5, 0, 0, 0 };
+		SQUARE_BONUSES[PieceType.QUEEN.ordinal()] = new int[] {
+				-20, -10, -10, -5, -5, -10, -10, -20,
+				-10, 0, 0, 0, 0, 0, 0, -10,
+				-10, 0, 5, 5, 5, 5, 0, -10,
+				-5, 0, 5, 5, 5, 5, 0, -5,
+				0, 0, 5, 5, 5, 5, 0, -5,
+				-10, 5, 5, 5, 5, 5, 0, -10,
+				-10, 0, 5, 0, 0, 0, 0, -10,
+				-20, -10, -10, -5, -5, -10, -10, -20 };
+		SQUARE_BONUSES[PieceType.KING.ordinal()] = new int[] {
+				-30, -40, -40, -50, -50, -40, -40, -30,
+				-30, -40, -40, -50, -50, -40, -40, -30,
+				-30, -40, -40, -50, -50, -40, -40, -30,
+				-30, -40, -40, -50, -50, -40, -40, -30,
+				-20, -30, -30, -40, -40, -30, -30, -20,
+				-10, -20, -20, -20, -20, -20, -20, -10,
+				20, 20, 0, 0, 0, 0, 20, 20,
+				20, 30, 10, 0, 0, 10, 30, 20 };
+	}
+
+	@Override
+	public int evaluate(Board board) {
+		int score = evaluate(board, Color.WHITE) - evaluate(board, Color.BLACK);
+		return board.getPly() % 2 == 0 ? score : -score;
+	}
+
+	private static int evaluate(Board board, Color color) {
+		// square indexes grow from the 1st row, the tables start from the 8th row
+		int flip = color == Color.WHITE ? FLIP_RANKS : 0;
+		int score = 0;
+		for (PieceType type : PIECE_TYPES) {
+			int[] bonuses = SQUARE_BONUSES[type.ordinal()];
+			int value = PIECE_VALUES[type.ordinal()];
+			for (long pieces = board.getPieceBitboard(color, type); pieces != Bitboards.EMPTY; pieces = Bitboards
+					.withoutFirstSquare(pieces)) {
+				score += value + bonuses[Bitboards.firstSquare(pieces) ^ flip];
+			}
+		}
+		return score;
+	}
+
+}
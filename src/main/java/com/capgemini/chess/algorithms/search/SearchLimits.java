@@ -0,0 +1,78 @@
+package com.capgemini.chess.algorithms.search;
+
+import com.capgemini.chess.algorithms.data.enums.Level;
+
+/**
+ * limits of a single search - the maximal depth of the iterative deepening,
+ * the time budget and the number of nodes. The search is stopped by the
+ * first limit reached, but the first iteration is always completed, so a
+ * move is found for any budget.
+ *
+ */
+public final class SearchLimits {
+
+	public static final int MAX_DEPTH = 32;
+	public static final long NO_LIMIT = 0;
+
+	private static final int[] LEVEL_DEPTHS = { 1, 1, 2, 2, 3, 4, 5, 6, 8, MAX_DEPTH };
+	private static final long[] LEVEL_TIMES_MILLIS = { 50, 100, 150, 200, 300, 400, 600, 800, 1200, 2000 };
+
+	private final int maxDepth;
+	private final long timeMillis;
+	private final long maxNodes;
+
+	/**
+	 * @param maxDepth depth of the last iteration (1 - {@link #MAX_DEPTH})
+	 * @param timeMillis time budget in milliseconds, {@link #NO_LIMIT} if none
+	 * @param maxNodes number of nodes the search is stopped after,
+	 *            {@link #NO_LIMIT} if none
+	 */
+	public SearchLimits(int maxDepth, long timeMillis, long maxNodes) {
+		if (maxDepth < 1 || maxDepth > MAX_DEPTH) {
+			throw new IllegalArgumentException("The depth must be between 1 and " + MAX_DEPTH + ": " + maxDepth);
+		}
+		if (timeMillis < 0 || maxNodes < 0) {
+			throw new IllegalArgumentException("The limits cannot be negative!");
+		}
+		this.maxDepth = maxDepth;
+		this.timeMillis = timeMillis;
+		this.maxNodes = maxNodes;
+	}
+
+	/**
+	 * @param maxDepth depth of the last iteration (1 - {@link #MAX_DEPTH})
+	 * @return limits of the depth only
+	 */
+	public static SearchLimits depth(int maxDepth) {
+		return new SearchLimits(maxDepth, NO_LIMIT, NO_LIMIT);
+	}
+
+	/**
+	 * the depth and the time budget grow with the level, the highest level is
+	 * limited by the time only
+	 * @param level level of the computer opponent
+	 * @return limits of a move of the opponent
+	 */
+	public static SearchLimits forLevel(Level level) {
+		int index = level.getValue() - 1;
+		return new SearchLimits(LEVEL_DEPTHS[index], LEVEL_TIMES_MILLIS[index], NO_LIMIT);
+	}
+
+	public int getMaxDepth() {
+		return this.maxDepth;
+	}
+
+	public long getTimeMillis() {
+		return this.timeMillis;
+	}
+
+	public long getMaxNodes() {
+		return this.maxNodes;
+	}
+
+	@Override
+	public String toString() {
+		return "depth " + this.maxDepth + ", " + this.timeMillis + " ms, " + this.maxNodes + " nodes";
+	}
+
+}
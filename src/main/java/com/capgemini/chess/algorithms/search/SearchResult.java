@@ -0,0 +1,99 @@
+package com.capgemini.chess.algorithms.search;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.move.Move;
+import com.capgemini.chess.algorithms.move.PackedMove;
+
+/**
+ * result of a search - the best move with its score and the principal
+ * variation of the last completed iteration, together with the number of
+ * nodes visited and the time spent
+ *
+ */
+public class SearchResult {
+
+	private final Move bestMove;
+	private final int score;
+	private final int depth;
+	private final List<Move> principalVariation;
+	private final long nodes;
+	private final long elapsedNanos;
+
+	public SearchResult(int score, int depth, List<Move> principalVariation, long nodes, long elapsedNanos) {
+		this.bestMove = principalVariation.isEmpty() ? null : principalVariation.get(0);
+		this.score = score;
+		this.depth = depth;
+		this.principalVariation = Collections.unmodifiableList(principalVariation);
+		this.nodes = nodes;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * @return the best move found, null if the player has no legal move
+	 */
+	public Move getBestMove() {
+		return bestMove;
+	}
+
+	/**
+	 * @return score of the best move in centipawns from the point of view of the
+	 *         player who is to perform it (see {@link #isMateScore()})
+	 */
+	public int getScore() {
+		return score;
+	}
+
+	/**
+	 * @return true if the score means a checkmate within the principal variation
+	 */
+	public boolean isMateScore() {
+		return Math.abs(score) >= AlphaBetaSearch.MATE_SCORE - AlphaBetaSearch.MAX_PLY;
+	}
+
+	/**
+	 * @return depth of the last completed iteration
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * @return moves expected to be played by both players starting from the
+	 *         best move
+	 */
+	public List<Move> getPrincipalVariation() {
+		return principalVariation;
+	}
+
+	public long getNodes() {
+		return nodes;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * @return number of nodes (positions searched) visited per second
+	 */
+	public long getNodesPerSecond() {
+		if (elapsedNanos == 0) {
+			return 0;
+		}
+		return (long) (nodes * 1_000_000_000.0 / elapsedNanos);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("depth ").append(depth).append(", score ").append(score).append(", pv");
+		for (Move move : principalVariation) {
+			builder.append(' ').append(PackedMove.toString(PackedMove.pack(move)));
+		}
+		return builder.append(", ").append(nodes).append(" nodes, ").append(getNodesPerSecond())
+				.append(" n/s").toString();
+	}
+
+}
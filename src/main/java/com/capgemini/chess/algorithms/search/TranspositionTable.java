@@ -0,0 +1,197 @@
+package com.capgemini.chess.algorithms.search;
+
+import java.util.Arrays;
+
+import com.capgemini.chess.algorithms.move.PackedMove;
+
+/**
+ * fixed-size table of search results of positions, kept in a single
+ * preallocated long array, so no object is created per entry and the table
+ * can take gigabytes without a load for the garbage collector.
+ *
+ * An entry takes two longs - the data (move, score, depth, bound and age of
+ * the search) and the Zobrist key of the position xor-ed with the data.
+ * Entries are read and written without locking by any number of threads: an
+ * entry torn by concurrent writes does not match the key of any position and
+ * is treated as missing. Entries are grouped in buckets of four (a cache
+ * line), a new entry replaces the entry of the same position or the shallowest
+ * entry of the bucket, entries of previous searches being replaced first.
+ *
+ */
+public final class TranspositionTable {
+
+	public static final int EXACT = 0;
+	public static final int LOWER_BOUND = 1;
+	public static final int UPPER_BOUND = 2;
+
+	/**
+	 * result of a probe of a position missing in the table
+	 */
+	public static final long NO_ENTRY = 0;
+
+	public static final int MAX_MEGABYTES = 8192;
+
+	private static final int ENTRY_LONGS = 2;
+	private static final int BUCKET_ENTRIES = 4;
+	private static final int BUCKET_LONGS = ENTRY_LONGS * BUCKET_ENTRIES;
+	private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+	private static final int SCORE_SHIFT = 16;
+	private static final int DEPTH_SHIFT = 32;
+	private static final int BOUND_SHIFT = 40;
+	private static final int AGE_SHIFT = 42;
+	private static final long MOVE_MASK = 0xFFFF;
+	private static final long SCORE_MASK = 0xFFFF;
+	private static final long DEPTH_MASK = 0xFF;
+	private static final long BOUND_MASK = 0x3;
+	private static final int AGE_MASK = 0xFF;
+	private static final long PRESENT = 1L << 63;
+
+	private static final int AGE_WEIGHT = 8;
+	private static final int HASHFULL_SAMPLE = 1000;
+
+	private final long[] entries;
+	private final long bucketMask;
+	private volatile int age;
+
+	/**
+	 * @param megabytes size of the table (1 - {@link #MAX_MEGABYTES}), the
+	 *            number of buckets is rounded down to a power of two
+	 */
+	public TranspositionTable(int megabytes) {
+		if (megabytes < 1 || megabytes > MAX_MEGABYTES) {
+			throw new IllegalArgumentException(
+					"The size must be between 1 and " + MAX_MEGABYTES + " MB: " + megabytes);
+		}
+		long buckets = Long.highestOneBit(megabytes * BYTES_PER_MEGABYTE / (BUCKET_LONGS * Long.BYTES));
+		this.entries = new long[(int) (buckets * BUCKET_LONGS)];
+		this.bucketMask = buckets - 1;
+	}
+
+	/**
+	 * @param key Zobrist key of the position
+	 * @return data of the entry of the position (read by
+	 *         {@link #move(long)}, {@link #score(long)}, {@link #depth(long)}
+	 *         and {@link #bound(long)}), {@link #NO_ENTRY} if the position is
+	 *         not in the table
+	 */
+	public long probe(long key) {
+		long[] entries = this.entries;
+		int bucket = bucketIndex(key);
+		for (int i = bucket; i < bucket + BUCKET_LONGS; i += ENTRY_LONGS) {
+			long data = entries[i + 1];
+			if ((entries[i] ^ data) == key && (data & PRESENT) != 0) {
+				return data;
+			}
+		}
+		return NO_ENTRY;
+	}
+
+	/**
+	 * stores the result of a search of the position
+	 * @param key Zobrist key of the position
+	 * @param move the best move in the packed form, {@link PackedMove#NONE} if
+	 *            not known (the move stored for the position before is kept)
+	 * @param depth depth the position was searched to (0 - 255)
+	 * @param bound {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}
+	 * @param score score of the position (it must fit a short)
+	 */
+	public void store(long key, int move, int depth, int bound, int score) {
+		long[] entries = this.entries;
+		int age = this.age;
+		int bucket = bucketIndex(key);
+		int replaced = bucket;
+		int replacedValue = Integer.MAX_VALUE;
+		for (int i = bucket; i < bucket + BUCKET_LONGS; i += ENTRY_LONGS) {
+			long data = entries[i + 1];
+			if ((data & PRESENT) == 0) {
+				replaced = i;
+				break;
+			}
+			if ((entries[i] ^ data) == key) {
+				if (move == PackedMove.NONE) {
+					move = move(data);
+				}
+				replaced = i;
+				break;
+			}
+			int value = depth(data) - AGE_WEIGHT * ((age - age(data)) & AGE_MASK);
+			if (value < replacedValue) {
+				replaced = i;
+				replacedValue = value;
+			}
+		}
+
+		long data = PRESENT | (PackedMove.withoutMovedPiece(move) & MOVE_MASK) | ((score & SCORE_MASK) << SCORE_SHIFT)
+				| ((depth & DEPTH_MASK) << DEPTH_SHIFT) | ((bound & BOUND_MASK) << BOUND_SHIFT)
+				| ((long) (age & AGE_MASK) << AGE_SHIFT);
+		entries[replaced] = key ^ data;
+		entries[replaced + 1] = data;
+	}
+
+	/**
+	 * starts a new search, entries of the previous searches are replaced
+	 * before the entries of the new one
+	 */
+	public void newSearch() {
+		this.age = (this.age + 1) & AGE_MASK;
+	}
+
+	/**
+	 * removes all entries
+	 */
+	public void clear() {
+		Arrays.fill(this.entries, 0);
+	}
+
+	/**
+	 * @return number of entries the table holds
+	 */
+	public int getCapacity() {
+		return this.entries.length / ENTRY_LONGS;
+	}
+
+	/**
+	 * @return permille of the sampled entries taken by the current search
+	 */
+	public int getHashfull() {
+		int sample = Math.min(HASHFULL_SAMPLE, getCapacity());
+		int used = 0;
+		for (int i = 0; i < sample * ENTRY_LONGS; i += ENTRY_LONGS) {
+			long data = this.entries[i + 1];
+			if ((data & PRESENT) != 0 && age(data) == this.age) {
+				used++;
+			}
+		}
+		return used * 1000 / sample;
+	}
+
+	/**
+	 * @param data data of an entry
+	 * @return the stored move in the packed form
+	 */
+	public static int move(long data) {
+		return (int) (data & MOVE_MASK);
+	}
+
+	public static int score(long data) {
+		return (short) (data >>> SCORE_SHIFT);
+	}
+
+	public static int depth(long data) {
+		return (int) ((data >>> DEPTH_SHIFT) & DEPTH_MASK);
+	}
+
+	public static int bound(long data) {
+		return (int) ((data >>> BOUND_SHIFT) & BOUND_MASK);
+	}
+
+	private static int age(long data) {
+		return (int) ((data >>> AGE_SHIFT) & AGE_MASK);
+	}
+
+	private int bucketIndex(long key) {
+		return (int) (key & this.bucketMask) * BUCKET_LONGS;
+	}
+
+}
@@ -0,0 +1,121 @@
+package com.capgemini.chess.algorithms.session;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.BoardSnapshot;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidColorException;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+import com.capgemini.chess.algorithms.move.Move;
+
+/**
+ * a live game kept by {@link GameSessionRegistry}. The board manager of the
+ * game is guarded by the lock of the session, so calls for different games
+ * never contend. A snapshot of the position, which holds the state of the
+ * board and the number of moves, is published after every committed move and
+ * can be read without locking (e.g. by spectators), so a reader always sees
+ * the state and the moves of the same position.
+ *
+ */
+public class GameSession {
+
+	private final long gameId;
+	private final BoardManager boardManager;
+	private final Object lock = new Object();
+
+	private volatile BoardSnapshot snapshot;
+
+	GameSession(long gameId, BoardManager boardManager) {
+		this.gameId = gameId;
+		this.boardManager = boardManager;
+		this.snapshot = boardManager.snapshot();
+	}
+
+	public long getGameId() {
+		return this.gameId;
+	}
+
+	/**
+	 * performs the move (see {@link BoardManager#performMove(Coordinate, Coordinate)})
+	 * and publishes the state of the board after it
+	 */
+	public Move performMove(Coordinate from, Coordinate to)
+			throws InvalidMoveException, InvalidColorException, NoKingException {
+		synchronized (this.lock) {
+			Move move = this.boardManager.performMove(from, to);
+			commit();
+			return move;
+		}
+	}
+
+	/**
+	 * performs the move promoting a pawn (see
+	 * {@link BoardManager#performMove(Coordinate, Coordinate, PieceType)}) and
+	 * publishes the state of the board after it
+	 */
+	public Move performMove(Coordinate from, Coordinate to, PieceType promotionPieceType)
+			throws InvalidMoveException, InvalidColorException, NoKingException {
+		synchronized (this.lock) {
+			Move move = this.boardManager.performMove(from, to, promotionPieceType);
+			commit();
+			return move;
+		}
+	}
+
+	/**
+	 * calculates the state of the board again and publishes it together with
+	 * a snapshot of the position
+	 * @return state of the board
+	 */
+	public BoardState updateBoardState() throws InvalidColorException, NoKingException {
+		synchronized (this.lock) {
+			commit();
+			return this.snapshot.getState();
+		}
+	}
+
+	/**
+	 * runs the operation on the board manager of the game while holding the lock
+	 * of the session (the board manager must not be used outside of the
+	 * operation). The state of the board after moves made by the operation is
+	 * published by {@link #updateBoardState()}.
+	 * @return result of the operation
+	 */
+	public <T> T execute(GameSessionOperation<T> operation)
+			throws InvalidMoveException, InvalidColorException, NoKingException {
+		synchronized (this.lock) {
+			return operation.apply(this.boardManager);
+		}
+	}
+
+	/**
+	 * lock-free read of the state published by the last committed move
+	 * @return state of the board, null if it has not been calculated yet
+	 */
+	public BoardState getBoardState() {
+		return this.snapshot.getState();
+	}
+
+	/**
+	 * lock-free read of the number of moves published by the last committed move
+	 */
+	public int getMovesCount() {
+		return this.snapshot.getMovesCount();
+	}
+
+	/**
+	 * lock-free read of the snapshot of the position published by the last
+	 * committed move, which can be read by many threads at once
+	 */
+	public BoardSnapshot getSnapshot() {
+		return this.snapshot;
+	}
+
+	private void commit() throws InvalidColorException, NoKingException {
+		this.boardManager.updateBoardState();
+		this.snapshot = this.boardManager.snapshot();
+	}
+
+}
@@ -0,0 +1,18 @@
+package com.capgemini.chess.algorithms.session;
+
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidColorException;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+
+/**
+ * operation run on the board manager of a game under the lock of its session
+ * (see {@link GameSession#execute(GameSessionOperation)})
+ *
+ */
+@FunctionalInterface
+public interface GameSessionOperation<T> {
+
+	T apply(BoardManager boardManager) throws InvalidMoveException, InvalidColorException, NoKingException;
+
+}
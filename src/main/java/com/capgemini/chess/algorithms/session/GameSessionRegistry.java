@@ -0,0 +1,96 @@
+package com.capgemini.chess.algorithms.session;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * keeps live games by their ids. Every game has its own lock (see
+ * {@link GameSession}), so moves of different games are performed in
+ * parallel and never wait for each other, while the sessions themselves are
+ * kept in a concurrent map.
+ *
+ */
+public class GameSessionRegistry {
+
+	private final ConcurrentMap<Long, GameSession> sessions;
+
+	public GameSessionRegistry() {
+		this.sessions = new ConcurrentHashMap<Long, GameSession>();
+	}
+
+	/**
+	 * @param expectedSessions number of games expected to be kept at once
+	 */
+	public GameSessionRegistry(int expectedSessions) {
+		this.sessions = new ConcurrentHashMap<Long, GameSession>(expectedSessions);
+	}
+
+	/**
+	 * opens a session of a game starting from the initial position
+	 * @param gameId id of the game
+	 * @return the new session
+	 * @throws IllegalArgumentException in case a session of the game is open
+	 *             already
+	 */
+	public GameSession openSession(long gameId) {
+		BoardManager boardManager = new BoardManager();
+		boardManager.getBoard().setState(BoardState.REGULAR);
+		return register(new GameSession(gameId, boardManager));
+	}
+
+	/**
+	 * opens a session of a game played on the given board manager (which must
+	 * not be used outside of the session any more)
+	 * @param gameId id of the game
+	 * @param boardManager board manager with the current position of the game
+	 * @return the new session
+	 * @throws IllegalArgumentException in case a session of the game is open
+	 *             already
+	 */
+	public GameSession openSession(long gameId, BoardManager boardManager) {
+		return register(new GameSession(gameId, boardManager));
+	}
+
+	/**
+	 * @param gameId id of the game
+	 * @return session of the game, null if there is no open session of the game
+	 */
+	public GameSession getSession(long gameId) {
+		return this.sessions.get(gameId);
+	}
+
+	/**
+	 * lock-free read of the state of the board published by the last committed
+	 * move of the game
+	 * @param gameId id of the game
+	 * @return state of the board, null if there is no open session of the game
+	 *         or the state has not been calculated yet
+	 */
+	public BoardState getBoardState(long gameId) {
+		GameSession session = this.sessions.get(gameId);
+		return session == null ? null : session.getBoardState();
+	}
+
+	/**
+	 * @param gameId id of the game
+	 * @return the closed session, null if there was no open session of the game
+	 */
+	public GameSession closeSession(long gameId) {
+		return this.sessions.remove(gameId);
+	}
+
+	public int getSessionsCount() {
+		return this.sessions.size();
+	}
+
+	private GameSession register(GameSession session) {
+		if (this.sessions.putIfAbsent(session.getGameId(), session) != null) {
+			throw new IllegalArgumentException("A session of the game " + session.getGameId() + " is open already!");
+		}
+		return session;
+	}
+
+}
@@ -0,0 +1,201 @@
+package com.capgemini.chess.algorithms.archive;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Player;
+import com.capgemini.chess.algorithms.data.enums.GameResult;
+import com.capgemini.chess.algorithms.data.enums.Level;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.GameFixtures;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidColorException;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+import com.capgemini.chess.algorithms.move.MoveList;
+import com.capgemini.chess.algorithms.move.PackedMove;
+
+/**
+ * Test class for testing {@link GameArchiveWriter} and {@link GameArchiveReader}
+ *
+ */
+public class GameArchiveTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testWriteAndReadGames()
+			throws IOException, InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		Path archive = folder.newFile("games.bin").toPath();
+		BoardManager foolsMate = GameFixtures.playFoolsMate();
+		BoardManager emptyGame = new BoardManager();
+		Player white = createPlayer(Level.MASTER, 40000);
+
+		// when
+		try (GameArchiveWriter writer = new GameArchiveWriter(archive)) {
+			writer.writeGame(foolsMate.getBoard(), GameResult.LOST, white, null);
+			writer.writeGame(emptyGame.getBoard(), null, null, null);
+		}
+
+		// then
+		try (GameArchiveReader reader = new GameArchiveReader(archive)) {
+			assertTrue(reader.next());
+			assertEquals(0, reader.getGameIndex());
+			assertEquals(GameResult.LOST, reader.getResult());
+			assertEquals(Level.MASTER, reader.getWhiteLevel());
+			assertEquals(40000, reader.getWhitePoints());
+			assertNull(reader.getBlackLevel());
+			assertEquals(4, reader.getMovesCount());
+			MoveList moves = new MoveList();
+			reader.copyMoves(moves);
+			assertEquals(4, moves.size());
+			Board replayed = reader.replay().getBoard();
+			assertEquals(foolsMate.getBoard().getZobristKey(), replayed.getZobristKey());
+			assertEquals(foolsMate.getBoard().getMoveHistory(), replayed.getMoveHistory());
+
+			assertTrue(reader.next());
+			assertNull(reader.getResult());
+			assertEquals(0, reader.getMovesCount());
+			assertFalse(reader.next());
+		}
+	}
+
+	@Test
+	public void testRewind() throws IOException, InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		Path archive = folder.newFile("games.bin").toPath();
+		try (GameArchiveWriter writer = new GameArchiveWriter(archive)) {
+			writer.writeGame(GameFixtures.playFoolsMate().getBoard(), GameResult.LOST, null, null);
+		}
+
+		// when
+		int gamesRead = 0;
+		try (GameArchiveReader reader = new GameArchiveReader(archive)) {
+			while (reader.next()) {
+				gamesRead++;
+			}
+			reader.rewind();
+			while (reader.next()) {
+				gamesRead++;
+			}
+		}
+
+		// then
+		assertEquals(2, gamesRead);
+	}
+
+	@Test
+	public void testPromotionIsArchived() throws IOException, InvalidMoveException, InvalidColorException,
+			NoKingException {
+		// given
+		Path archive = folder.newFile("games.bin").toPath();
+		BoardManager boardManager = new BoardManager();
+		boardManager.performMove(new Coordinate(7, 1), new Coordinate(7, 3));
+		boardManager.performMove(new Coordinate(6, 6), new Coordinate(6, 4));
+		boardManager.performMove(new Coordinate(7, 3), new Coordinate(6, 4));
+		boardManager.performMove(new Coordinate(7, 6), new Coordinate(7, 5));
+		boardManager.performMove(new Coordinate(6, 4), new Coordinate(7, 5));
+		boardManager.performMove(new Coordinate(6, 7), new Coordinate(5, 5));
+		boardManager.performMove(new Coordinate(7, 5), new Coordinate(7, 6));
+		boardManager.performMove(new Coordinate(5, 5), new Coordinate(6, 7));
+		boardManager.performMove(new Coordinate(7, 6), new Coordinate(6, 7), PieceType.KNIGHT);
+
+		// when
+		try (GameArchiveWriter writer = new GameArchiveWriter(archive)) {
+			writer.writeGame(boardManager.getBoard(), null, null, null);
+		}
+
+		// then
+		try (GameArchiveReader reader = new GameArchiveReader(archive)) {
+			assertTrue(reader.next());
+			assertEquals(boardManager.toFen(), reader.replay().toFen());
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testReadFileWhichIsNotArchive() throws IOException {
+		// given
+		Path file = folder.newFile("games.txt").toPath();
+		Files.write(file, "1. e4 e5".getBytes("UTF-8"));
+
+		// when
+		new GameArchiveReader(file).close();
+	}
+
+	@Test(expected = IOException.class)
+	public void testReadTruncatedArchive() throws IOException, InvalidMoveException, InvalidColorException,
+			NoKingException {
+		// given
+		Path archive = folder.newFile("games.bin").toPath();
+		try (GameArchiveWriter writer = new GameArchiveWriter(archive)) {
+			writer.writeGame(GameFixtures.playFoolsMate().getBoard(), GameResult.LOST, null, null);
+		}
+		byte[] bytes = Files.readAllBytes(archive);
+		Files.write(archive, Arrays.copyOf(bytes, bytes.length - 1));
+
+		// when
+		try (GameArchiveReader reader = new GameArchiveReader(archive)) {
+			reader.next();
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testReplayMoveFromEmptySquare() throws IOException, InvalidMoveException, InvalidColorException,
+			NoKingException {
+		// given
+		Path archive = folder.newFile("games.bin").toPath();
+		try (GameArchiveWriter writer = new GameArchiveWriter(archive)) {
+			writer.writeGame(GameFixtures.playFoolsMate().getBoard(), GameResult.LOST, null, null);
+		}
+		byte[] bytes = Files.readAllBytes(archive);
+		int firstMoveOffset = bytes.length - GameFixtures.FOOLS_MATE.length * Short.BYTES;
+		int fromEmptySquare = PackedMove.of(Bitboards.squareIndex(4, 3), Bitboards.squareIndex(4, 4),
+				MoveType.ATTACK, null);
+		ByteBuffer.wrap(bytes).putShort(firstMoveOffset, (short) fromEmptySquare);
+		Files.write(archive, bytes);
+
+		// when
+		try (GameArchiveReader reader = new GameArchiveReader(archive)) {
+			reader.next();
+			reader.replay();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWriteGameNotFromInitialPosition() throws Exception {
+		// given
+		Path archive = folder.newFile("games.bin").toPath();
+		BoardManager boardManager = new BoardManager("4k3/8/8/8/8/8/8/4K3 b - - 0 1");
+
+		// when
+		try (GameArchiveWriter writer = new GameArchiveWriter(archive)) {
+			writer.writeGame(boardManager.getBoard(), null, null, null);
+		}
+	}
+
+	private Player createPlayer(Level level, int points) {
+		Player player = new Player();
+		player.setLevel(level);
+		player.setPoints(points);
+		return player;
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.capgemini.chess.algorithms.bitboard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+
+/**
+ * Test class for testing {@link AttackTables}
+ *
+ */
+public class AttackTablesTest {
+
+	@Test
+	public void testKnightAttacksFromCorner() {
+		// given
+		Coordinate from = Coordinate.of(0, 0);
+
+		// when
+		List<Coordinate> squares = AttackTables.knightAttackSquares(from);
+
+		// then
+		assertEquals(2, squares.size());
+		assertTrue(squares.contains(Coordinate.of(1, 2)));
+		assertTrue(squares.contains(Coordinate.of(2, 1)));
+		assertEquals(AttackTables.knightAttacks(Bitboards.squareIndex(from)), Bitboards.squareMask(Bitboards
+				.squareIndex(1, 2)) | Bitboards.squareMask(Bitboards.squareIndex(2, 1)));
+	}
+
+	@Test
+	public void testKingAttacks() {
+		// when
+		List<Coordinate> centerSquares = AttackTables.kingAttackSquares(Coordinate.of(4, 4));
+		List<Coordinate> edgeSquares = AttackTables.kingAttackSquares(Coordinate.of(7, 3));
+
+		// then
+		assertEquals(8, centerSquares.size());
+		assertEquals(5, edgeSquares.size());
+		assertSame(centerSquares, AttackTables.kingAttackSquares(Coordinate.of(4, 4)));
+	}
+
+	@Test
+	public void testPawnPushesAndCaptures() {
+		// when
+		List<Coordinate> whiteStartPushes = AttackTables.pawnPushSquares(Color.WHITE, Coordinate.of(4, 1));
+		List<Coordinate> whitePushes = AttackTables.pawnPushSquares(Color.WHITE, Coordinate.of(4, 2));
+		List<Coordinate> blackStartPushes = AttackTables.pawnPushSquares(Color.BLACK, Coordinate.of(4, 6));
+		List<Coordinate> blackCaptures = AttackTables.pawnCaptureSquares(Color.BLACK, Coordinate.of(0, 6));
+
+		// then
+		assertEquals(2, whiteStartPushes.size());
+		assertTrue(whiteStartPushes.contains(Coordinate.of(4, 3)));
+		assertEquals(1, whitePushes.size());
+		assertTrue(blackStartPushes.contains(Coordinate.of(4, 4)));
+		assertEquals(1, blackCaptures.size());
+		assertTrue(blackCaptures.contains(Coordinate.of(1, 5)));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testSquareListsAreImmutable() {
+		// given
+		List<Coordinate> squares = AttackTables.knightAttackSquares(Coordinate.of(3, 3));
+
+		// when
+		squares.add(Coordinate.of(0, 0));
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.capgemini.chess.algorithms.bitboard;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test class for testing {@link SlidingAttacks}
+ *
+ */
+public class SlidingAttacksTest {
+
+	private static final int[][] ROOK_DIRECTIONS = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+	private static final int[][] BISHOP_DIRECTIONS = { { 1, 1 }, { 1, -1 }, { -1, 1 }, { -1, -1 } };
+
+	private static final int OCCUPANCIES_PER_SQUARE = 500;
+
+	@Test
+	public void testRookAttacksMatchRayWalk() {
+		// given
+		Random random = new Random(1);
+
+		for (int square = 0; square < Bitboards.SQUARES; square++) {
+			for (int i = 0; i < OCCUPANCIES_PER_SQUARE; i++) {
+				long occupied = randomOccupancy(random);
+
+				// when
+				long attacks = SlidingAttacks.rookAttacks(square, occupied);
+
+				// then
+				assertEquals("square " + square + ", occupied " + Long.toHexString(occupied),
+						rayWalk(square, occupied, ROOK_DIRECTIONS), attacks);
+			}
+		}
+	}
+
+	@Test
+	public void testBishopAttacksMatchRayWalk() {
+		// given
+		Random random = new Random(2);
+
+		for (int square = 0; square < Bitboards.SQUARES; square++) {
+			for (int i = 0; i < OCCUPANCIES_PER_SQUARE; i++) {
+				long occupied = randomOccupancy(random);
+
+				// when
+				long attacks = SlidingAttacks.bishopAttacks(square, occupied);
+
+				// then
+				assertEquals("square " + square + ", occupied " + Long.toHexString(occupied),
+						rayWalk(square, occupied, BISHOP_DIRECTIONS), attacks);
+			}
+		}
+	}
+
+	@Test
+	public void testQueenAttacksOnEmptyBoard() {
+		// given
+		int square = Bitboards.squareIndex(3, 3);
+
+		// when
+		long attacks = SlidingAttacks.queenAttacks(square, Bitboards.EMPTY);
+
+		// then
+		assertEquals(27, Long.bitCount(attacks));
+	}
+
+	/**
+	 * random occupancy of varying density (sparse, half and dense boards)
+	 */
+	private long randomOccupancy(Random random) {
+		switch (random.nextInt(3)) {
+		case 0:
+			return random.nextLong() & random.nextLong() & random.nextLong();
+		case 1:
+			return random.nextLong();
+		default:
+			return random.nextLong() | random.nextLong();
+		}
+	}
+
+	private long rayWalk(int square, long occupied, int[][] directions) {
+		long attacks = Bitboards.EMPTY;
+		for (int[] direction : directions) {
+			int x = Bitboards.fileOf(square) + direction[0];
+			int y = Bitboards.rankOf(square) + direction[1];
+			while (x >= 0 && x < 8 && y >= 0 && y < 8) {
+				long mask = 1L << Bitboards.squareIndex(x, y);
+				attacks |= mask;
+				if ((occupied & mask) != 0) {
+					break;
+				}
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+		return attacks;
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.capgemini.chess.algorithms.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+/**
+ * Test class for testing {@link Coordinate}
+ *
+ */
+public class CoordinateTest {
+
+	@Test
+	public void testOfReturnsSharedInstance() {
+		// given
+		Coordinate square = Coordinate.of(4, 1);
+
+		// when
+		Coordinate sameSquare = Coordinate.of(4, 1);
+
+		// then
+		assertSame(square, sameSquare);
+		assertEquals(new Coordinate(4, 1), square);
+		assertEquals(new Coordinate(4, 1).hashCode(), square.hashCode());
+	}
+
+	@Test
+	public void testOfInvalidCoordinate() {
+		// given
+		Coordinate invalid = Coordinate.of(8, -1);
+
+		// when
+		Coordinate sameInvalid = Coordinate.of(8, -1);
+
+		// then
+		assertFalse(invalid.isValid());
+		assertNotSame(invalid, sameInvalid);
+		assertEquals(invalid, sameInvalid);
+		assertEquals(invalid.hashCode(), sameInvalid.hashCode());
+	}
+
+}
@@ -0,0 +1,154 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidColorException;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+import com.capgemini.chess.algorithms.move.AttackMove;
+import com.capgemini.chess.algorithms.move.Move;
+
+/**
+ * Test class for testing {@link BatchGameValidator}
+ *
+ */
+public class BatchGameValidatorTest {
+
+	@Test
+	public void testValidateLegalGames() throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		List<List<Move>> games = new ArrayList<List<Move>>();
+		games.add(foolsMate());
+		games.add(promotion());
+		games.add(new ArrayList<Move>());
+
+		// when
+		BatchValidationResult result = new BatchGameValidator().validate(games);
+
+		// then
+		assertEquals(3, result.getVerdicts().size());
+		assertEquals(0, result.getIllegalGamesCount());
+		assertEquals(20, result.getMoves());
+		assertEquals(BoardState.CHECK_MATE, result.getVerdicts().get(0).getBoardState());
+		assertEquals(BoardState.REGULAR, result.getVerdicts().get(1).getBoardState());
+		assertEquals(BoardState.REGULAR, result.getVerdicts().get(2).getBoardState());
+		assertEquals(GameVerdict.NO_ILLEGAL_PLY, result.getVerdicts().get(1).getFirstIllegalPly());
+	}
+
+	@Test
+	public void testValidateIllegalGame() throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		List<Move> game = foolsMate();
+		game.set(2, new AttackMove(new Coordinate(4, 0), new Coordinate(4, 2)));
+		List<List<Move>> games = new ArrayList<List<Move>>();
+		games.add(game);
+
+		// when
+		BatchValidationResult result = new BatchGameValidator().validate(games);
+
+		// then
+		GameVerdict verdict = result.getVerdicts().get(0);
+		assertFalse(verdict.isLegal());
+		assertEquals(2, verdict.getFirstIllegalPly());
+		assertNotNull(verdict.getFailure());
+		assertEquals(BoardState.REGULAR, verdict.getBoardState());
+		assertEquals(1, result.getIllegalGamesCount());
+		assertEquals(3, result.getMoves());
+	}
+
+	@Test
+	public void testValidateShardedBatch() throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		List<List<Move>> games = new ArrayList<List<Move>>();
+		for (int i = 0; i < 100; i++) {
+			List<Move> game = i % 2 == 0 ? foolsMate() : promotion();
+			if (i % 7 == 0) {
+				game.set(1, new AttackMove(new Coordinate(0, 6), new Coordinate(0, 3)));
+			}
+			games.add(game);
+		}
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		// when
+		BatchValidationResult result = new BatchGameValidator(pool, 3).validate(games);
+		pool.shutdown();
+
+		// then
+		assertEquals(100, result.getVerdicts().size());
+		assertEquals(15, result.getIllegalGamesCount());
+		for (int i = 0; i < 100; i++) {
+			GameVerdict verdict = result.getVerdicts().get(i);
+			assertEquals(i, verdict.getGameIndex());
+			if (i % 7 == 0) {
+				assertEquals(1, verdict.getFirstIllegalPly());
+			} else {
+				assertTrue(verdict.isLegal());
+				assertEquals(i % 2 == 0 ? BoardState.CHECK_MATE : BoardState.REGULAR, verdict.getBoardState());
+			}
+		}
+	}
+
+	@Test
+	public void testCorruptGameDoesNotAbortBatch() throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		List<Move> corruptGame = foolsMate();
+		corruptGame.set(2, new AttackMove(null, new Coordinate(6, 3)));
+		List<List<Move>> games = new ArrayList<List<Move>>();
+		games.add(corruptGame);
+		games.add(foolsMate());
+		ForkJoinPool pool = new ForkJoinPool(1);
+
+		// when
+		BatchValidationResult result = new BatchGameValidator(pool, 2).validate(games);
+		pool.shutdown();
+
+		// then
+		GameVerdict corruptVerdict = result.getVerdicts().get(0);
+		assertFalse(corruptVerdict.isLegal());
+		assertEquals(2, corruptVerdict.getFirstIllegalPly());
+		assertNotNull(corruptVerdict.getFailure());
+		assertEquals(BoardState.REGULAR, corruptVerdict.getBoardState());
+		GameVerdict nextVerdict = result.getVerdicts().get(1);
+		assertTrue(nextVerdict.isLegal());
+		assertEquals(BoardState.CHECK_MATE, nextVerdict.getBoardState());
+		assertEquals(7, result.getMoves());
+	}
+
+	private List<Move> foolsMate() throws InvalidMoveException, InvalidColorException, NoKingException {
+		return new ArrayList<Move>(GameFixtures.playFoolsMate().getBoard().getMoveHistory());
+	}
+
+	private List<Move> promotion() throws InvalidMoveException, InvalidColorException, NoKingException {
+		BoardManager boardManager = new BoardManager();
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		boardManager.performMove(new Coordinate(0, 6), new Coordinate(0, 5));
+		boardManager.performMove(new Coordinate(4, 3), new Coordinate(4, 4));
+		boardManager.performMove(new Coordinate(3, 6), new Coordinate(3, 4));
+		boardManager.performMove(new Coordinate(4, 4), new Coordinate(3, 5));
+		boardManager.performMove(new Coordinate(2, 6), new Coordinate(3, 5));
+		boardManager.performMove(new Coordinate(7, 1), new Coordinate(7, 3));
+		boardManager.performMove(new Coordinate(6, 6), new Coordinate(6, 4));
+		boardManager.performMove(new Coordinate(7, 3), new Coordinate(6, 4));
+		boardManager.performMove(new Coordinate(7, 6), new Coordinate(7, 5));
+		boardManager.performMove(new Coordinate(6, 4), new Coordinate(7, 5));
+		boardManager.performMove(new Coordinate(6, 7), new Coordinate(5, 5));
+		boardManager.performMove(new Coordinate(7, 5), new Coordinate(7, 6));
+		boardManager.performMove(new Coordinate(5, 5), new Coordinate(6, 7));
+		boardManager.performMove(new Coordinate(7, 6), new Coordinate(6, 7), PieceType.QUEEN);
+		boardManager.performMove(new Coordinate(7, 7), new Coordinate(6, 7));
+		return new ArrayList<Move>(boardManager.getBoard().getMoveHistory());
+	}
+
+}
@@ -11,12 +11,16 @@ import java.util.List;
 
 import org.junit.Test;
 
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.MoveValidationResult;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidColorException;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidFenException;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
 import com.capgemini.chess.algorithms.implementation.exceptions.KingInCheckException;
 import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
@@ -614,6 +618,45 @@ public class BoardManagerTest {
 		assertTrue(exceptionThrown);
 	}
 
+	@Test
+	public void testPerformMoveInvalidCastlingRookMovedBack()
+			throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		Board board = new Board();
+		BoardManager boardManager = new BoardManager(board);
+
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
+		boardManager.performMove(new Coordinate(0, 0), new Coordinate(0, 1));
+		boardManager.performMove(new Coordinate(4, 7), new Coordinate(4, 6));
+		boardManager.performMove(new Coordinate(0, 1), new Coordinate(0, 0));
+		boardManager.performMove(new Coordinate(4, 6), new Coordinate(4, 7));
+
+		// when
+		MoveValidationResult result = boardManager.checkMove(new Coordinate(4, 0), new Coordinate(2, 0));
+
+		// then
+		assertEquals(MoveValidationResult.INVALID_MOVE, result);
+		assertEquals(Board.WHITE_KING_SIDE_CASTLING, board.getCastlingRights());
+	}
+
+	@Test
+	public void testPerformMoveInvalidCastlingWithOpponentRook() throws InvalidColorException, NoKingException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(7, 0));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(0, 7));
+		BoardManager boardManager = new BoardManager(board);
+
+		// when
+		MoveValidationResult result = boardManager.checkMove(new Coordinate(4, 0), new Coordinate(6, 0));
+
+		// then
+		assertEquals(MoveValidationResult.INVALID_MOVE, result);
+	}
+
 	@Test
 	public void testPerformMoveInvalidCastlingWithPiecesBetween() throws InvalidColorException, NoKingException {
 		// given
@@ -739,6 +782,347 @@ public class BoardManagerTest {
 		assertEquals(BoardState.STALE_MATE, boardState);
 	}
 
+	@Test
+	public void testUpdateBoardStateDoesNotChangeBoard()
+			throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(0, 0));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(1, 1));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(7, 7));
+
+		// when
+		BoardManager boardManager = new BoardManager(board);
+		boardManager.updateBoardState();
+
+		// then
+		assertEquals(new Rook(Color.BLACK), board.getPieceAt(new Coordinate(1, 1)));
+		assertEquals(new King(Color.WHITE), board.getPieceAt(new Coordinate(0, 0)));
+		assertEquals(3, calculateNumberOfPieces(board));
+	}
+
+	@Test
+	public void testCheckMoveValid() throws InvalidColorException, NoKingException {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		MoveValidationResult result = boardManager.checkMove(new Coordinate(6, 0), new Coordinate(5, 2));
+
+		// then
+		assertEquals(MoveValidationResult.VALID, result);
+		assertTrue(boardManager.getBoard().getMoveHistory().isEmpty());
+	}
+
+	@Test
+	public void testCheckMoveInvalidResults() throws InvalidColorException, NoKingException {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		MoveValidationResult outOfBound = boardManager.checkMove(new Coordinate(8, 6), new Coordinate(7, 6));
+		MoveValidationResult emptySpot = boardManager.checkMove(new Coordinate(3, 3), new Coordinate(3, 4));
+		MoveValidationResult moveOrder = boardManager.checkMove(new Coordinate(1, 6), new Coordinate(1, 5));
+		MoveValidationResult leapsOver = boardManager.checkMove(new Coordinate(0, 0), new Coordinate(0, 3));
+
+		// then
+		assertEquals(MoveValidationResult.INVALID_COORDINATES, outOfBound);
+		assertEquals(MoveValidationResult.EMPTY_START_SQUARE, emptySpot);
+		assertEquals(MoveValidationResult.WRONG_COLOR, moveOrder);
+		assertEquals(MoveValidationResult.INVALID_MOVE, leapsOver);
+	}
+
+	@Test
+	public void testCheckMoveKingWouldBeChecked() throws InvalidColorException, NoKingException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(4, 5));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 7));
+
+		// when
+		BoardManager boardManager = new BoardManager(board);
+		MoveValidationResult result = boardManager.checkMove(new Coordinate(4, 5), new Coordinate(7, 2));
+
+		// then
+		assertEquals(MoveValidationResult.KING_IN_CHECK, result);
+		assertEquals(new Bishop(Color.WHITE), board.getPieceAt(new Coordinate(4, 5)));
+	}
+
+	@Test
+	public void testCheckMovePinnedPiece() throws InvalidColorException, NoKingException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(4, 3));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 7));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(0, 7));
+
+		// when
+		BoardManager boardManager = new BoardManager(board);
+		MoveValidationResult alongPin = boardManager.checkMove(new Coordinate(4, 3), new Coordinate(4, 5));
+		MoveValidationResult capturePinner = boardManager.checkMove(new Coordinate(4, 3), new Coordinate(4, 7));
+		MoveValidationResult offPin = boardManager.checkMove(new Coordinate(4, 3), new Coordinate(0, 3));
+		MoveValidationResult leapsOver = boardManager.checkMove(new Coordinate(4, 3), new Coordinate(4, 0));
+
+		// then
+		assertEquals(MoveValidationResult.VALID, alongPin);
+		assertEquals(MoveValidationResult.VALID, capturePinner);
+		assertEquals(MoveValidationResult.KING_IN_CHECK, offPin);
+		assertEquals(MoveValidationResult.INVALID_MOVE, leapsOver);
+	}
+
+	@Test
+	public void testCheckMoveEnPassantUncoversKing() throws InvalidColorException, NoKingException, InvalidFenException {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/K2pP2r/8/8/8/8 w - d6 0 1");
+
+		// when
+		MoveValidationResult enPassant = boardManager.checkMove(new Coordinate(4, 4), new Coordinate(3, 5));
+		MoveValidationResult pawnStep = boardManager.checkMove(new Coordinate(4, 4), new Coordinate(4, 5));
+
+		// then
+		assertEquals(MoveValidationResult.KING_IN_CHECK, enPassant);
+		assertEquals(MoveValidationResult.VALID, pawnStep);
+	}
+
+	@Test
+	public void testGenerateLegalMovesInitialPosition() throws InvalidColorException, NoKingException {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		List<Move> legalMoves = boardManager.generateLegalMoves();
+
+		// then
+		assertEquals(20, legalMoves.size());
+		assertTrue(legalMoves.contains(createMove(new AttackMove(new Coordinate(4, 1), new Coordinate(4, 3)),
+				new Pawn(Color.WHITE))));
+		assertTrue(legalMoves.contains(createMove(new AttackMove(new Coordinate(6, 0), new Coordinate(5, 2)),
+				new Knight(Color.WHITE))));
+	}
+
+	@Test
+	public void testGenerateLegalMovesOfPiece() throws InvalidColorException, NoKingException {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		List<Move> knightMoves = boardManager.generateLegalMoves(new Coordinate(1, 0));
+		List<Move> blockedRookMoves = boardManager.generateLegalMoves(new Coordinate(0, 0));
+		List<Move> opponentMoves = boardManager.generateLegalMoves(new Coordinate(1, 7));
+
+		// then
+		assertEquals(2, knightMoves.size());
+		assertTrue(blockedRookMoves.isEmpty());
+		assertTrue(opponentMoves.isEmpty());
+	}
+
+	@Test
+	public void testGenerateLegalMovesPromotion() throws InvalidColorException, NoKingException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(1, 6));
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(7, 0));
+
+		// when
+		BoardManager boardManager = new BoardManager(board);
+		List<Move> pawnMoves = boardManager.generateLegalMoves(new Coordinate(1, 6));
+
+		// then
+		assertEquals(4, pawnMoves.size());
+		for (Move move : pawnMoves) {
+			assertEquals(new Coordinate(1, 7), move.getTo());
+			assertNotNull(move.getPromotionPieceType());
+		}
+	}
+
+	@Test
+	public void testGenerateLegalMovesEnPassantAndCastling()
+			throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		Board board = new Board();
+		BoardManager boardManager = new BoardManager(board);
+		board.getMoveHistory().add(createDummyMove(board));
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(1, 4));
+		board.setPieceAt(new Knight(Color.WHITE), new Coordinate(0, 4));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(2, 6));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(0, 7));
+		boardManager.performMove(new Coordinate(2, 6), new Coordinate(2, 4));
+
+		// when
+		List<Move> legalMoves = boardManager.generateLegalMoves();
+
+		// then
+		assertEquals(MoveType.EN_PASSANT, findMove(legalMoves, new Coordinate(1, 4), new Coordinate(2, 5)).getType());
+		assertEquals(MoveType.CASTLING, findMove(legalMoves, new Coordinate(4, 0), new Coordinate(6, 0)).getType());
+		assertEquals(MoveType.ATTACK, findMove(legalMoves, new Coordinate(0, 4), new Coordinate(2, 5)).getType());
+	}
+
+	@Test
+	public void testGenerateLegalMovesPinnedPieces() throws InvalidColorException, NoKingException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(4, 2));
+		board.setPieceAt(new Knight(Color.WHITE), new Coordinate(3, 1));
+		board.setPieceAt(new Queen(Color.BLACK), new Coordinate(4, 6));
+		board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(0, 4));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(7, 7));
+		BoardManager boardManager = new BoardManager(board);
+
+		// when
+		List<Move> rookMoves = boardManager.generateLegalMoves(new Coordinate(4, 2));
+		List<Move> knightMoves = boardManager.generateLegalMoves(new Coordinate(3, 1));
+
+		// then
+		assertEquals(5, rookMoves.size());
+		for (Move move : rookMoves) {
+			assertEquals(4, move.getTo().getX());
+		}
+		assertTrue(knightMoves.isEmpty());
+	}
+
+	@Test
+	public void testGenerateLegalMovesDoubleCheck() throws InvalidColorException, NoKingException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Queen(Color.WHITE), new Coordinate(3, 3));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 5));
+		board.setPieceAt(new Knight(Color.BLACK), new Coordinate(3, 2));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(7, 7));
+		BoardManager boardManager = new BoardManager(board);
+
+		// when
+		List<Move> legalMoves = boardManager.generateLegalMoves();
+
+		// then
+		assertFalse(legalMoves.isEmpty());
+		for (Move move : legalMoves) {
+			assertEquals(new Coordinate(4, 0), move.getFrom());
+		}
+		assertNull(findMove(legalMoves, new Coordinate(3, 3), new Coordinate(3, 2)));
+	}
+
+	@Test
+	public void testQueryDoesNotChangeBoard() throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		boardManager.performMove(new Coordinate(5, 1), new Coordinate(5, 2));
+		boardManager.performMove(new Coordinate(4, 6), new Coordinate(4, 4));
+		boardManager.performMove(new Coordinate(6, 1), new Coordinate(6, 3));
+		boardManager.performMove(new Coordinate(3, 7), new Coordinate(7, 3));
+		String fen = boardManager.toFen();
+
+		// when
+		BoardQuery query = boardManager.query();
+		BoardState boardState = query.calculateBoardState();
+		boolean check = query.isCheck();
+		List<Coordinate> destinations = query.getLegalDestinations(new Coordinate(4, 0));
+
+		// then
+		assertEquals(BoardState.CHECK_MATE, boardState);
+		assertTrue(check);
+		assertTrue(destinations.isEmpty());
+		assertNull(boardManager.getBoard().getState());
+		assertEquals(fen, boardManager.toFen());
+	}
+
+	@Test
+	public void testSnapshotQueryIsNotChangedByMoves()
+			throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		BoardQuery published = boardManager.snapshot().query();
+
+		// when
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+
+		// then
+		assertEquals(Color.WHITE, published.getNextMoveColor());
+		assertEquals(20, published.generateLegalMoves().size());
+		assertEquals(2, published.getLegalDestinations(new Coordinate(4, 1)).size());
+		assertEquals(MoveValidationResult.VALID, published.checkMove(new Coordinate(4, 1), new Coordinate(4, 3)));
+		assertEquals(Color.BLACK, boardManager.query().getNextMoveColor());
+	}
+
+	@Test
+	public void testSnapshotIsNotChangedByMovesTakenBack()
+			throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		boardManager.performMove(new Coordinate(4, 6), new Coordinate(4, 4));
+		BoardSnapshot snapshot = boardManager.snapshot();
+		String fen = snapshot.toFen();
+
+		// when
+		boardManager.unmakeMove();
+		boardManager.performMove(new Coordinate(3, 6), new Coordinate(3, 4));
+		BoardManager analysis = snapshot.toBoardManager();
+		analysis.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+
+		// then
+		assertEquals(fen, snapshot.toFen());
+		assertEquals(2, snapshot.getMovesCount());
+		assertEquals(new Coordinate(4, 4), snapshot.getMoveHistory().get(1).getTo());
+		assertEquals(new Coordinate(3, 4), boardManager.getBoard().getMoveHistory().get(1).getTo());
+		assertEquals(3, analysis.getBoard().getMoveHistory().size());
+		assertEquals(Color.WHITE, snapshot.getNextMoveColor());
+		assertEquals(new Pawn(Color.BLACK), snapshot.getPieceAt(new Coordinate(4, 4)));
+	}
+
+	@Test
+	public void testPerformMovePromotionToKnight() throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(1, 6));
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(7, 0));
+
+		// when
+		BoardManager boardManager = new BoardManager(board);
+		Move move = boardManager.performMove(new Coordinate(1, 6), new Coordinate(1, 7), PieceType.KNIGHT);
+
+		// then
+		assertEquals(PieceType.KNIGHT, move.getPromotionPieceType());
+		assertEquals(new Knight(Color.WHITE), board.getPieceAt(new Coordinate(1, 7)));
+	}
+
+	@Test
+	public void testPerformMoveInvalidPawnLeapsOver() throws InvalidColorException, NoKingException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		boardManager.getBoard().setPieceAt(new Knight(Color.BLACK), new Coordinate(4, 2));
+
+		// when
+		boolean exceptionThrown = false;
+		try {
+			boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		} catch (InvalidMoveException e) {
+			exceptionThrown = true;
+		}
+
+		// then
+		assertTrue(exceptionThrown);
+	}
+
+	@Test(expected = KingInCheckException.class)
+	public void testPerformMoveInvalidCastlingOutOfCheck()
+			throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 7));
+
+		// when
+		BoardManager boardManager = new BoardManager(board);
+		boardManager.performMove(new Coordinate(4, 0), new Coordinate(6, 0));
+	}
+
 	@Test
 	public void testCheckThreefoldRepetitionRuleSuccessful() {
 		// given
@@ -814,14 +1198,72 @@ public class BoardManagerTest {
 	}
 
 	@Test
-	public void testCheckFiftyMoveRuleSuccessful() {
+	public void testCheckThreefoldRepetitionRulePerformedMoves()
+			throws InvalidMoveException, InvalidColorException, NoKingException {
 		// given
-		Board board = new Board();
-		BoardManager boardManager = new BoardManager(board);
-		for (int i = 0; i < 100; i++) {
-			board.getMoveHistory().add(createDummyMove(board));
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		boolean[] repetitionsAfterEachCycle = new boolean[2];
+		for (int i = 0; i < 2; i++) {
+			boardManager.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+			boardManager.performMove(new Coordinate(6, 7), new Coordinate(5, 5));
+			boardManager.performMove(new Coordinate(5, 2), new Coordinate(6, 0));
+			boardManager.performMove(new Coordinate(5, 5), new Coordinate(6, 7));
+			repetitionsAfterEachCycle[i] = boardManager.checkThreefoldRepetitionRule();
 		}
 
+		// then
+		assertFalse(repetitionsAfterEachCycle[0]);
+		assertTrue(repetitionsAfterEachCycle[1]);
+	}
+
+	@Test
+	public void testZobristKeyTransposition() throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		BoardManager boardManager1 = new BoardManager();
+		BoardManager boardManager2 = new BoardManager();
+
+		// when
+		boardManager1.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+		boardManager1.performMove(new Coordinate(6, 7), new Coordinate(5, 5));
+		boardManager1.performMove(new Coordinate(1, 0), new Coordinate(2, 2));
+		boardManager2.performMove(new Coordinate(1, 0), new Coordinate(2, 2));
+		boardManager2.performMove(new Coordinate(6, 7), new Coordinate(5, 5));
+		boardManager2.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+
+		// then
+		assertEquals(boardManager1.getBoard().getZobristKey(), boardManager2.getBoard().getZobristKey());
+		assertFalse(new BoardManager().getBoard().getZobristKey() == boardManager1.getBoard().getZobristKey());
+	}
+
+	@Test
+	public void testZobristKeyCastlingRights() throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		long initialKey = boardManager.getBoard().getZobristKey();
+
+		// when
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 2));
+		boardManager.performMove(new Coordinate(4, 6), new Coordinate(4, 5));
+		long keyBeforeKingMove = boardManager.getBoard().getZobristKey();
+		boardManager.performMove(new Coordinate(4, 0), new Coordinate(4, 1));
+		boardManager.performMove(new Coordinate(4, 7), new Coordinate(4, 6));
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 0));
+		boardManager.performMove(new Coordinate(4, 6), new Coordinate(4, 7));
+
+		// then
+		assertFalse(keyBeforeKingMove == boardManager.getBoard().getZobristKey());
+		assertFalse(initialKey == keyBeforeKingMove);
+		assertEquals(Board.NO_CASTLING_RIGHTS, boardManager.getBoard().getCastlingRights());
+	}
+
+	@Test
+	public void testCheckFiftyMoveRuleSuccessful() throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		BoardManager boardManager = new BoardManager(createBoardWithKings());
+		performKingMoves(boardManager, 100);
+
 		// when
 		boolean areFiftyMoves = boardManager.checkFiftyMoveRule();
 
@@ -830,13 +1272,11 @@ public class BoardManagerTest {
 	}
 
 	@Test
-	public void testCheckFiftyMoveRuleUnsuccessfulNotEnoughMoves() {
+	public void testCheckFiftyMoveRuleUnsuccessfulNotEnoughMoves()
+			throws InvalidMoveException, InvalidColorException, NoKingException {
 		// given
-		Board board = new Board();
-		BoardManager boardManager = new BoardManager(board);
-		for (int i = 0; i < 99; i++) {
-			board.getMoveHistory().add(createDummyMove(board));
-		}
+		BoardManager boardManager = new BoardManager(createBoardWithKings());
+		performKingMoves(boardManager, 99);
 
 		// when
 		boolean areFiftyMoves = boardManager.checkFiftyMoveRule();
@@ -846,28 +1286,245 @@ public class BoardManagerTest {
 	}
 
 	@Test
-	public void testCheckFiftyMoveRuleUnsuccessfulPawnMoved() {
+	public void testCheckFiftyMoveRuleUnsuccessfulPawnMoved()
+			throws InvalidMoveException, InvalidColorException, NoKingException {
 		// given
-		BoardManager boardManager = new BoardManager(new Board());
+		Board board = createBoardWithKings();
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(3, 1));
+		BoardManager boardManager = new BoardManager(board);
+		performKingMoves(boardManager, 50);
+		boardManager.performMove(new Coordinate(3, 1), new Coordinate(3, 2));
+		performKingMoves(boardManager, 99);
 
-		Move move = new AttackMove(null, null);
-		boardManager.getBoard().setPieceAt(new Pawn(Color.WHITE), new Coordinate(0, 0));
-		move.setMovedPiece(new Pawn(Color.WHITE));
-		move.setFrom(new Coordinate(0, 0));
-		move.setTo(new Coordinate(0, 0));
-		// move.setType(MoveType.ATTACK);
-		boardManager.getBoard().setPieceAt(null, new Coordinate(0, 0));
-		boardManager.getBoard().getMoveHistory().add(move);
+		// when
+		boolean areFiftyMoves = boardManager.checkFiftyMoveRule();
 
-		for (int i = 0; i < 99; i++) {
-			boardManager.getBoard().getMoveHistory().add(createDummyMove(boardManager.getBoard()));
-		}
+		// then
+		assertFalse(areFiftyMoves);
+		assertEquals(99, board.getHalfmoveClock());
+	}
+
+	@Test
+	public void testCheckFiftyMoveRuleUnsuccessfulPieceCaptured()
+			throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		Board board = createBoardWithKings();
+		board.setPieceAt(new Knight(Color.WHITE), new Coordinate(3, 3));
+		board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(2, 5));
+		BoardManager boardManager = new BoardManager(board);
+		performKingMoves(boardManager, 60);
+		boardManager.performMove(new Coordinate(3, 3), new Coordinate(2, 5));
+		performKingMoves(boardManager, 60);
 
 		// when
 		boolean areFiftyMoves = boardManager.checkFiftyMoveRule();
 
 		// then
 		assertFalse(areFiftyMoves);
+		assertEquals(60, board.getHalfmoveClock());
+	}
+
+	@Test
+	public void testGenerateBoardHalfmoveClock() {
+		// given
+		List<Move> moves = new ArrayList<>();
+		Move move1 = new AttackMove(new Coordinate(6, 0), new Coordinate(5, 2));
+		Move move2 = new AttackMove(new Coordinate(6, 7), new Coordinate(5, 5));
+		Move move3 = new AttackMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		Move move4 = new AttackMove(new Coordinate(1, 7), new Coordinate(2, 5));
+		Move move5 = new AttackMove(new Coordinate(5, 0), new Coordinate(2, 3));
+		moves.add(move1);
+		moves.add(move2);
+		moves.add(move3);
+		moves.add(move4);
+		moves.add(move5);
+
+		// when
+		BoardManager boardManager = new BoardManager(moves);
+
+		// then
+		assertEquals(2, boardManager.getBoard().getHalfmoveClock());
+		assertEquals(2, new Board(boardManager.getBoard()).getHalfmoveClock());
+	}
+
+	@Test
+	public void testUnmakeMoveRestoresBoard() throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(7, 1));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(4, 4));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(1, 6));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(0, 7));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(3, 6));
+		BoardManager boardManager = new BoardManager(board);
+		boardManager.performMove(new Coordinate(7, 1), new Coordinate(7, 2));
+		boardManager.performMove(new Coordinate(3, 6), new Coordinate(3, 4));
+		Board boardBefore = new Board(board);
+
+		// when
+		List<Move> legalMoves = boardManager.generateLegalMoves();
+
+		// then
+		assertNotNull(findMove(legalMoves, new Coordinate(4, 4), new Coordinate(3, 5)));
+		assertNotNull(findMove(legalMoves, new Coordinate(4, 0), new Coordinate(6, 0)));
+		assertNotNull(findMove(legalMoves, new Coordinate(1, 6), new Coordinate(0, 7)));
+		for (Move move : legalMoves) {
+			boardManager.makeMove(move);
+			assertEquals(boardBefore.getMoveHistory().size() + 1, board.getMoveHistory().size());
+			boardManager.unmakeMove();
+			assertSameBoard(boardBefore, board);
+		}
+	}
+
+	@Test
+	public void testUnmakeMoveTakesBackPerformedMoves()
+			throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		Board initialBoard = new Board(boardManager.getBoard());
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		boardManager.performMove(new Coordinate(3, 6), new Coordinate(3, 4));
+		boardManager.performMove(new Coordinate(4, 3), new Coordinate(3, 4));
+
+		// when
+		boardManager.unmakeMove();
+		boardManager.unmakeMove();
+		boardManager.unmakeMove();
+
+		// then
+		assertSameBoard(initialBoard, boardManager.getBoard());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testUnmakeMoveWithoutMove() {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		boardManager.unmakeMove();
+	}
+
+	@Test
+	public void testKingSquaresFollowMoves()
+			throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		Board board = boardManager.getBoard();
+
+		// when
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		boardManager.performMove(new Coordinate(3, 6), new Coordinate(3, 4));
+		boardManager.performMove(new Coordinate(4, 3), new Coordinate(3, 4));
+		boardManager.performMove(new Coordinate(4, 7), new Coordinate(3, 6));
+
+		// then
+		assertEquals(16, Long.bitCount(board.getColorBitboard(Color.WHITE)));
+		assertEquals(15, Long.bitCount(board.getColorBitboard(Color.BLACK)));
+		assertEquals(Bitboards.squareIndex(4, 0), board.getKingSquare(Color.WHITE));
+		assertEquals(Bitboards.squareIndex(3, 6), board.getKingSquare(Color.BLACK));
+	}
+
+	@Test
+	public void testKingSquareWithoutKing() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+
+		// when
+		board.setPieceAt(new Queen(Color.BLACK), new Coordinate(4, 0));
+
+		// then
+		assertEquals(Board.NO_SQUARE, board.getKingSquare(Color.WHITE));
+		assertEquals(Board.NO_SQUARE, board.getKingSquare(Color.BLACK));
+		assertEquals(0, Long.bitCount(board.getColorBitboard(Color.WHITE)));
+		assertEquals(1, Long.bitCount(board.getColorBitboard(Color.BLACK)));
+	}
+
+	@Test
+	public void testEnPassantSquareSetOnlyAfterTwoStepsPawnMove()
+			throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		Board board = boardManager.getBoard();
+
+		// when
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		int afterTwoSteps = board.getEnPassantSquare();
+		boardManager.performMove(new Coordinate(3, 6), new Coordinate(3, 5));
+		int afterOneStep = board.getEnPassantSquare();
+
+		// then
+		assertEquals(Bitboards.squareIndex(4, 2), afterTwoSteps);
+		assertEquals(Board.NO_SQUARE, afterOneStep);
+		assertNull(board.getPieceAt(new Coordinate(4, 2)));
+	}
+
+	@Test
+	public void testIsSquareAttacked() throws InvalidColorException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(0, 3));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(2, 3));
+		board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(7, 7));
+		board.setPieceAt(new Knight(Color.BLACK), new Coordinate(1, 0));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(6, 6));
+		BoardManager boardManager = new BoardManager(board);
+
+		// when
+		boolean attackedByRook = boardManager.isSquareAttacked(new Coordinate(0, 7), Color.BLACK);
+		boolean behindBlocker = boardManager.isSquareAttacked(new Coordinate(3, 3), Color.BLACK);
+		boolean attackedByKnight = boardManager.isSquareAttacked(new Coordinate(2, 2), Color.BLACK);
+		boolean attackedByPawn = boardManager.isSquareAttacked(new Coordinate(5, 5), Color.BLACK);
+		boolean inFrontOfPawn = boardManager.isSquareAttacked(new Coordinate(6, 5), Color.BLACK);
+		boolean attackedByBishop = boardManager.isSquareAttacked(new Coordinate(3, 3), Color.WHITE);
+
+		// then
+		assertTrue(attackedByRook);
+		assertFalse(behindBlocker);
+		assertTrue(attackedByKnight);
+		assertTrue(attackedByPawn);
+		assertFalse(inFrontOfPawn);
+		assertFalse(attackedByBishop);
+	}
+
+	private void assertSameBoard(Board expected, Board actual) {
+		for (int x = 0; x < Board.SIZE; x++) {
+			for (int y = 0; y < Board.SIZE; y++) {
+				Coordinate square = new Coordinate(x, y);
+				assertEquals(square.toString(), expected.getPieceAt(square), actual.getPieceAt(square));
+			}
+		}
+		assertEquals(expected.getOccupied(), actual.getOccupied());
+		assertEquals(expected.getZobristKey(), actual.getZobristKey());
+		assertEquals(expected.getCastlingRights(), actual.getCastlingRights());
+		assertEquals(expected.getHalfmoveClock(), actual.getHalfmoveClock());
+		assertEquals(expected.getMoveHistory(), actual.getMoveHistory());
+	}
+
+	private Board createBoardWithKings() {
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(0, 0));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(7, 7));
+		return board;
+	}
+
+	private void performKingMoves(BoardManager boardManager, int numberOfMoves)
+			throws InvalidMoveException, InvalidColorException, NoKingException {
+		for (int i = 0; i < numberOfMoves; i++) {
+			Board board = boardManager.getBoard();
+			int column = board.getMoveHistory().size() % 2 == 0 ? 0 : 7;
+			int homeRow = column;
+			int otherRow = column == 0 ? 1 : 6;
+			if (board.getPieceAt(new Coordinate(column, homeRow)) != null) {
+				boardManager.performMove(new Coordinate(column, homeRow), new Coordinate(column, otherRow));
+			} else {
+				boardManager.performMove(new Coordinate(column, otherRow), new Coordinate(column, homeRow));
+			}
+		}
 	}
 
 	private Move createDummyMove(Board board) {
@@ -888,6 +1545,20 @@ public class BoardManagerTest {
 		return move;
 	}
 
+	private Move createMove(Move move, Piece movedPiece) {
+		move.setMovedPiece(movedPiece);
+		return move;
+	}
+
+	private Move findMove(List<Move> moves, Coordinate from, Coordinate to) {
+		for (Move move : moves) {
+			if (move.getFrom().equals(from) && move.getTo().equals(to)) {
+				return move;
+			}
+		}
+		return null;
+	}
+
 	private int calculateNumberOfPieces(Board board) {
 		int counter = 0;
 		for (int x = 0; x < Board.SIZE; x++) {
@@ -4,6 +4,16 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
+import com.capgemini.chess.algorithms.archive.GameArchiveTest;
+import com.capgemini.chess.algorithms.bitboard.AttackTablesTest;
+import com.capgemini.chess.algorithms.bitboard.SlidingAttacksTest;
+import com.capgemini.chess.algorithms.data.CoordinateTest;
+import com.capgemini.chess.algorithms.move.PackedMoveTest;
+import com.capgemini.chess.algorithms.pgn.PgnReaderTest;
+import com.capgemini.chess.algorithms.search.AlphaBetaSearchTest;
+import com.capgemini.chess.algorithms.search.TranspositionTableTest;
+import com.capgemini.chess.algorithms.session.GameSessionRegistryTest;
+
 /**
  * Test suite containing all tests
  *
@@ -11,7 +21,11 @@ import org.junit.runners.Suite.SuiteClasses;
  *
  */
 @RunWith(Suite.class)
-@SuiteClasses({ BoardManagerTest.class })
+@SuiteClasses({ BoardManagerTest.class, PerftTest.class, FenTest.class, CoordinateTest.class,
+		AttackTablesTest.class, SlidingAttacksTest.class, PackedMoveTest.class,
+		GameArchiveTest.class, PgnReaderTest.class, BatchGameValidatorTest.class,
+		GameSessionRegistryTest.class, AlphaBetaSearchTest.class,
+		TranspositionTableTest.class })
 public class ChessTestSuite {
 
 }
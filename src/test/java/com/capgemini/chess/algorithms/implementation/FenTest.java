@@ -0,0 +1,180 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidColorException;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidFenException;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+import com.capgemini.chess.algorithms.piece.King;
+import com.capgemini.chess.algorithms.piece.Pawn;
+
+/**
+ * Test class for testing {@link Fen}
+ *
+ */
+public class FenTest {
+
+	@Test
+	public void testParseInitialPosition() throws InvalidFenException {
+		// given
+		Board expected = new BoardManager().getBoard();
+
+		// when
+		Board board = Fen.parse(Fen.INITIAL_POSITION);
+
+		// then
+		for (int x = 0; x < Board.SIZE; x++) {
+			for (int y = 0; y < Board.SIZE; y++) {
+				assertEquals(expected.getPieceAt(new Coordinate(x, y)), board.getPieceAt(new Coordinate(x, y)));
+			}
+		}
+		assertEquals(Board.ALL_CASTLING_RIGHTS, board.getCastlingRights());
+		assertEquals(Board.NO_SQUARE, board.getEnPassantSquare());
+		assertEquals(0, board.getPly());
+		assertEquals(expected.getZobristKey(), board.getZobristKey());
+	}
+
+	@Test
+	public void testParseAllFields() throws InvalidFenException {
+		// given
+		String fen = "4k3/8/8/3pP3/8/8/8/R3K3 w Qk d6 7 42";
+
+		// when
+		Board board = Fen.parse(fen);
+
+		// then
+		assertEquals(new King(Color.BLACK), board.getPieceAt(new Coordinate(4, 7)));
+		assertEquals(new Pawn(Color.WHITE), board.getPieceAt(new Coordinate(4, 4)));
+		assertEquals(Board.WHITE_QUEEN_SIDE_CASTLING | Board.BLACK_KING_SIDE_CASTLING, board.getCastlingRights());
+		assertEquals(Bitboards.squareIndex(3, 5), board.getEnPassantSquare());
+		assertEquals(7, board.getHalfmoveClock());
+		assertEquals(82, board.getPly());
+	}
+
+	@Test
+	public void testParseWithoutClocks() throws InvalidFenException {
+		// given
+		String fen = "4k3/8/8/8/8/8/8/4K3 b - -";
+
+		// when
+		Board board = Fen.parse(fen);
+
+		// then
+		assertEquals(0, board.getHalfmoveClock());
+		assertEquals(1, board.getPly());
+		assertEquals("4k3/8/8/8/8/8/8/4K3 b - - 0 1", Fen.toFen(board));
+	}
+
+	@Test
+	public void testToFenRoundTrip() throws InvalidFenException {
+		// given
+		String[] fens = { Fen.INITIAL_POSITION, "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+				"rnbqkbnr/pp1ppppp/8/2p5/4P3/8/PPPP1PPP/RNBQKBNR w KQkq c6 0 2",
+				"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 b - - 13 57" };
+
+		for (String fen : fens) {
+			// when
+			String written = Fen.toFen(Fen.parse(fen));
+
+			// then
+			assertEquals(fen, written);
+		}
+	}
+
+	@Test
+	public void testToFenAfterMoves() throws InvalidMoveException, InvalidColorException, NoKingException {
+		// given
+		BoardManager boardManager = new BoardManager();
+
+		// when
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		String afterFirstMove = boardManager.toFen();
+		boardManager.performMove(new Coordinate(2, 6), new Coordinate(2, 4));
+		boardManager.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+
+		// then
+		assertEquals("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1", afterFirstMove);
+		assertEquals("rnbqkbnr/pp1ppppp/8/2p5/4P3/5N2/PPPP1PPP/RNBQKB1R b KQkq - 1 2", boardManager.toFen());
+	}
+
+	@Test
+	public void testParsedPositionEqualsPlayedPosition()
+			throws InvalidMoveException, InvalidColorException, NoKingException, InvalidFenException {
+		// given
+		BoardManager played = new BoardManager();
+		played.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		played.performMove(new Coordinate(2, 6), new Coordinate(2, 4));
+		played.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+
+		// when
+		BoardManager restored = new BoardManager(played.toFen());
+		restored.performMove(new Coordinate(1, 7), new Coordinate(2, 5));
+		played.performMove(new Coordinate(1, 7), new Coordinate(2, 5));
+
+		// then
+		assertEquals(played.getBoard().getZobristKey(), restored.getBoard().getZobristKey());
+		assertEquals(played.toFen(), restored.toFen());
+	}
+
+	@Test
+	public void testBlackToMoveAfterParse() throws InvalidColorException, NoKingException, InvalidFenException {
+		// given
+		BoardManager boardManager = new BoardManager("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1");
+
+		// when
+		boolean whiteMoveRejected = false;
+		try {
+			boardManager.performMove(new Coordinate(3, 1), new Coordinate(3, 3));
+		} catch (InvalidMoveException e) {
+			whiteMoveRejected = true;
+		}
+
+		// then
+		assertTrue(whiteMoveRejected);
+		assertEquals(20, boardManager.generateLegalMoves().size());
+	}
+
+	@Test
+	public void testParseInvalidNotation() {
+		// given
+		String[] fens = { null, "", "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP w KQkq - 0 1",
+				"rnbqkbnr/pppppppp/9/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+				"rnbqkbnr/ppppxppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+				"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR x KQkq - 0 1",
+				"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KKkq - 0 1",
+				"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq e3 0 1",
+				"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - x 1",
+				"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 0",
+				"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1 extra",
+				"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w",
+				"rnbq1bnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQ - 0 1",
+				"4k3/8/8/8/8/8/8/8 b - - 0 1",
+				"4k3/8/8/8/8/8/8/3KK3 w - - 0 1",
+				"3kk3/8/8/8/8/8/8/4K3 w - - 0 1",
+				"4k2P/8/8/8/8/8/8/4K3 w - - 0 1",
+				"4k3/8/8/8/8/8/8/p3K3 b - - 0 1",
+				"4k3/8/8/8/8/8/8/4K2P w - - 0 1" };
+
+		for (String fen : fens) {
+			// when
+			boolean exceptionThrown = false;
+			try {
+				Fen.parse(fen);
+			} catch (InvalidFenException e) {
+				exceptionThrown = true;
+			}
+
+			// then
+			assertTrue("FEN: " + fen, exceptionThrown);
+		}
+	}
+
+}
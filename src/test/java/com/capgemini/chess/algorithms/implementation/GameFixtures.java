@@ -0,0 +1,38 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidColorException;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+
+/**
+ * games shared by tests of several classes
+ *
+ */
+public final class GameFixtures {
+
+	/**
+	 * the shortest checkmate (f3 e5 g4 Qh4#) as pairs of the 'from' and the
+	 * 'to' field of every move
+	 */
+	public static final Coordinate[][] FOOLS_MATE = {
+			{ new Coordinate(5, 1), new Coordinate(5, 2) },
+			{ new Coordinate(4, 6), new Coordinate(4, 4) },
+			{ new Coordinate(6, 1), new Coordinate(6, 3) },
+			{ new Coordinate(3, 7), new Coordinate(7, 3) } };
+
+	private GameFixtures() {
+	}
+
+	/**
+	 * @return board manager after the moves of {@link #FOOLS_MATE}
+	 */
+	public static BoardManager playFoolsMate() throws InvalidMoveException, InvalidColorException, NoKingException {
+		BoardManager boardManager = new BoardManager();
+		for (Coordinate[] move : FOOLS_MATE) {
+			boardManager.performMove(move[0], move[1]);
+		}
+		return boardManager;
+	}
+
+}
@@ -0,0 +1,163 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidFenException;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+
+/**
+ * Test class for testing {@link Perft} against published node counts
+ *
+ */
+public class PerftTest {
+
+	private static final String INITIAL_POSITION = Fen.INITIAL_POSITION;
+	private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+	private static final String POSITION_3 = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+	private static final String POSITION_4 = "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+	private static final String POSITION_5 = "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8";
+
+	@Test
+	public void testPerftInitialPosition() throws NoKingException {
+		// given
+		Perft perft = new Perft(createBoard(INITIAL_POSITION));
+
+		// when
+		long depth1 = perft.perft(1);
+		long depth2 = perft.perft(2);
+		PerftResult depth3 = perft.divide(3);
+
+		// then
+		assertEquals(20, depth1);
+		assertEquals(400, depth2);
+		assertEquals(8902, depth3.getNodes());
+	}
+
+	@Test
+	public void testPerftKiwipete() throws NoKingException {
+		// given
+		Perft perft = new Perft(createBoard(KIWIPETE));
+
+		// when
+		long depth1 = perft.perft(1);
+		PerftResult depth3 = perft.divide(3);
+
+		// then
+		assertEquals(48, depth1);
+		assertEquals(97862, depth3.getNodes());
+	}
+
+	@Test
+	public void testPerftPosition3() throws NoKingException {
+		// given
+		Perft perft = new Perft(createBoard(POSITION_3));
+
+		// when
+		long depth2 = perft.perft(2);
+		PerftResult depth4 = perft.divide(4);
+
+		// then
+		assertEquals(191, depth2);
+		assertEquals(43238, depth4.getNodes());
+	}
+
+	@Test
+	public void testPerftPosition4() throws NoKingException {
+		// given
+		Perft perft = new Perft(createBoard(POSITION_4));
+
+		// when
+		long depth1 = perft.perft(1);
+		PerftResult depth3 = perft.divide(3);
+
+		// then
+		assertEquals(6, depth1);
+		assertEquals(9467, depth3.getNodes());
+	}
+
+	@Test
+	public void testPerftPosition5() throws NoKingException {
+		// given
+		Perft perft = new Perft(createBoard(POSITION_5));
+
+		// when
+		long depth2 = perft.perft(2);
+		PerftResult depth3 = perft.divide(3);
+
+		// then
+		assertEquals(1486, depth2);
+		assertEquals(62379, depth3.getNodes());
+	}
+
+	@Test
+	public void testDivideInitialPosition() throws NoKingException {
+		// given
+		Perft perft = new Perft(createBoard(INITIAL_POSITION));
+
+		// when
+		PerftResult result = perft.divide(2);
+
+		// then
+		assertEquals(2, result.getDepth());
+		assertEquals(20, result.getNodesPerRootMove().size());
+		assertEquals(Long.valueOf(20), result.getNodesPerRootMove().get("e2e4"));
+		assertEquals(Long.valueOf(20), result.getNodesPerRootMove().get("g1f3"));
+		assertTrue(result.getNodesPerSecond() > 0);
+	}
+
+	@Test
+	public void testPerftDoesNotChangeBoard() throws NoKingException {
+		// given
+		Board board = createBoard(KIWIPETE);
+
+		// when
+		new Perft(board).divide(2);
+
+		// then
+		assertEquals(createBoard(KIWIPETE).getOccupied(), board.getOccupied());
+		assertTrue(board.getMoveHistory().isEmpty());
+	}
+
+	@Test
+	public void testPerftOfDepthZero() throws NoKingException {
+		// given
+		Perft perft = new Perft(createBoard(INITIAL_POSITION));
+
+		// when
+		long nodes = perft.perft(0);
+
+		// then
+		assertEquals(1, nodes);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPerftRejectsNegativeDepth() throws NoKingException {
+		// given
+		Perft perft = new Perft(createBoard(INITIAL_POSITION));
+
+		// when
+		perft.perft(-1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDivideRejectsDepthZero() throws NoKingException {
+		// given
+		Perft perft = new Perft(createBoard(INITIAL_POSITION));
+
+		// when
+		perft.divide(0);
+	}
+
+	private Board createBoard(String fen) {
+		try {
+			return Fen.parse(fen);
+		} catch (InvalidFenException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+}
@@ -0,0 +1,163 @@
+package com.capgemini.chess.algorithms.move;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.piece.King;
+import com.capgemini.chess.algorithms.piece.Pawn;
+
+/**
+ * Test class for testing {@link PackedMove} and {@link MoveList}
+ *
+ */
+public class PackedMoveTest {
+
+	@Test
+	public void testPackedMoveFields() {
+		// given
+		int from = Bitboards.squareIndex(6, 6);
+		int to = Bitboards.squareIndex(7, 7);
+
+		// when
+		int move = PackedMove.of(from, to, MoveType.CAPTURE, PieceType.KNIGHT);
+
+		// then
+		assertTrue(move <= 0xFFFF);
+		assertEquals(from, PackedMove.from(move));
+		assertEquals(to, PackedMove.to(move));
+		assertEquals(MoveType.CAPTURE, PackedMove.type(move));
+		assertEquals(PieceType.KNIGHT, PackedMove.promotionPieceType(move));
+		assertTrue(PackedMove.isCapture(move));
+		assertEquals("g7h8n", PackedMove.toString(move));
+	}
+
+	@Test
+	public void testPackAndUnpackMove() {
+		// given
+		Move promotion = new AttackMove(new Coordinate(1, 1), new Coordinate(1, 0));
+		promotion.setMovedPiece(new Pawn(Color.BLACK));
+		promotion.setPromotionPieceType(PieceType.ROOK);
+		Move castling = new CastlingMove(new Coordinate(4, 0), new Coordinate(2, 0));
+		castling.setMovedPiece(new King(Color.WHITE));
+		Move enPassant = new EnPassantMove(new Coordinate(4, 4), new Coordinate(3, 5));
+
+		// when
+		Move unpackedPromotion = PackedMove.toMove(PackedMove.pack(promotion));
+		Move unpackedCastling = PackedMove.toMove(PackedMove.pack(castling));
+		Move unpackedEnPassant = PackedMove.toMove(PackedMove.pack(enPassant));
+
+		// then
+		assertEquals(promotion, unpackedPromotion);
+		assertEquals(castling, unpackedCastling);
+		assertEquals(enPassant, unpackedEnPassant);
+		assertNull(unpackedEnPassant.getMovedPiece());
+		assertEquals(MoveType.CASTLING, unpackedCastling.getType());
+	}
+
+	@Test
+	public void testMoveListGrowsAndKeepsOrder() {
+		// given
+		MoveList moves = new MoveList(2);
+
+		// when
+		for (int to = 1; to < Bitboards.SQUARES; to++) {
+			moves.add(PackedMove.of(0, to, MoveType.ATTACK, null));
+		}
+		moves.add(0, PackedMove.of(1, 0, MoveType.ATTACK, null));
+		int removed = moves.remove(1);
+		int last = moves.removeLast();
+
+		// then
+		assertEquals(Bitboards.SQUARES - 2, moves.size());
+		assertEquals(1, PackedMove.from(moves.get(0)));
+		assertEquals(1, PackedMove.to(removed));
+		assertEquals(Bitboards.SQUARES - 1, PackedMove.to(last));
+		assertEquals(2, PackedMove.to(moves.get(1)));
+	}
+
+	@Test
+	public void testMoveListViewWritesThrough() {
+		// given
+		MoveList moves = new MoveList();
+		List<Move> view = moves.asMoves();
+		Move move = new AttackMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		move.setMovedPiece(new Pawn(Color.WHITE));
+
+		// when
+		view.add(move);
+
+		// then
+		assertEquals(1, moves.size());
+		assertEquals(move, view.get(0));
+		assertEquals(new Pawn(Color.WHITE), PackedMove.movedPiece(moves.get(0)));
+		moves.clear();
+		assertTrue(view.isEmpty());
+	}
+
+	@Test
+	public void testCopiesOfMoveListShareMovesUntilChanged() {
+		// given
+		MoveList moves = new MoveList(4);
+		for (int i = 1; i <= 4; i++) {
+			moves.add(i);
+		}
+
+		// when
+		MoveList copy = moves.share();
+		moves.removeLast();
+		moves.add(10);
+		moves.add(11);
+		MoveList secondCopy = copy.share();
+		copy.set(0, 20);
+		secondCopy.add(30);
+
+		// then
+		assertEquals(4, copy.get(3));
+		assertEquals(20, copy.get(0));
+		assertEquals(4, copy.size());
+		assertEquals(1, moves.get(0));
+		assertEquals(10, moves.get(3));
+		assertEquals(11, moves.get(4));
+		assertEquals(1, secondCopy.get(0));
+		assertEquals(30, secondCopy.get(4));
+	}
+
+	@Test
+	public void testCopyOfMoveListIsIndependent() {
+		// given
+		MoveList moves = new MoveList(2);
+		moves.add(1);
+		moves.add(2);
+
+		// when
+		MoveList copy = new MoveList(moves);
+		moves.set(0, 10);
+		copy.add(3);
+
+		// then
+		assertEquals(1, copy.get(0));
+		assertEquals(3, copy.size());
+		assertEquals(10, moves.get(0));
+		assertEquals(2, moves.size());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testRemoveLastFromEmptyList() {
+		// given
+		MoveList moves = new MoveList();
+
+		// when
+		moves.removeLast();
+	}
+
+}
@@ -0,0 +1,197 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.GameResult;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidFenException;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidPgnException;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+import com.capgemini.chess.algorithms.move.PackedMove;
+import com.capgemini.chess.algorithms.piece.Rook;
+
+/**
+ * Test class for testing {@link PgnReader} and {@link San}
+ *
+ */
+public class PgnReaderTest {
+
+	private static final String OPERA_GAME = "[Event \"Paris\"]\n[White \"Paul Morphy\"]\n"
+			+ "[Black \"Duke Karl / Count Isouard\"]\n[Result \"1-0\"]\n\n"
+			+ "1. e4 e5 2. Nf3 d6 3. d4 Bg4 {This is a weak move already.} 4. dxe5 Bxf3 5. Qxf3 dxe5 "
+			+ "6. Bc4 Nf6 7. Qb3 Qe7 8. Nc3 c6 9. Bg5 (9. Nd5 Nxd5 (9... cxd5) 10. Bxd5) 9... b5 $6 "
+			+ "10. Nxb5! cxb5 11. Bxb5+ Nbd7 12. O-O-O Rd8 ; the queen side castling\n"
+			+ "13. Rxd7 Rxd7 14. Rd1 Qe6 15. Bxd7+ Nxd7 16. Qb8+!! Nxb8 17. Rd8# 1-0\n\n";
+
+	private static final String PROMOTION_GAME = "[Event \"Promotion\"]\n\n"
+			+ "1.e4 a6 2.e5 d5 3.exd6 cxd6 4.h4 g5 5.hxg5 h6 6.gxh6 Nf6 7.h7 Ng8 8.hxg8=Q Rxg8 *\n";
+
+	@Test
+	public void testReadGames() throws IOException {
+		// given
+		List<String> fens = new ArrayList<String>();
+		PgnReader reader = new PgnReader(new StringReader(OPERA_GAME + PROMOTION_GAME));
+
+		// when
+		PgnReadResult result = reader.readAll(game -> {
+			fens.add(game.snapshot().toFen());
+			if (game.getGameNumber() == 1) {
+				assertEquals("Paul Morphy", game.getTag("White"));
+				assertEquals(GameResult.WON, game.getResult());
+				assertEquals(33, game.getMovesCount());
+				try {
+					assertEquals(BoardState.CHECK_MATE, game.query().calculateBoardState());
+				} catch (NoKingException e) {
+					throw new AssertionError(e);
+				}
+			} else {
+				assertNull(game.getResult());
+				assertEquals(16, game.getMovesCount());
+				assertEquals(new Rook(Color.BLACK),
+						game.snapshot().getPieceAt(new Coordinate(6, 7)));
+			}
+		});
+
+		// then
+		assertEquals(2, result.getGames());
+		assertEquals(0, result.getRejectedGames());
+		assertEquals(49, result.getMoves());
+		assertEquals("1n1Rkb1r/p4ppp/4q3/4p1B1/4P3/8/PPP2PPP/2K5 b k - 1 17", fens.get(0));
+		assertEquals(2, fens.size());
+	}
+
+	@Test
+	public void testRejectedGameDoesNotStopReading() throws IOException {
+		// given
+		String pgn = "[Event \"Illegal\"]\n\n1. e4 e5 2. Ke3 Nc6 *\n\n[Event \"Legal\"]\n\n1. d4 d5 1/2-1/2\n";
+		List<String> rejectedEvents = new ArrayList<String>();
+		List<String> readEvents = new ArrayList<String>();
+
+		// when
+		PgnReadResult result = new PgnReader(new StringReader(pgn)).readAll(new PgnGameConsumer() {
+
+			@Override
+			public void gameRead(PgnGame game) {
+				readEvents.add(game.getTag("Event"));
+				assertEquals(GameResult.DRAW, game.getResult());
+				assertEquals(5, game.getLineNumber());
+			}
+
+			@Override
+			public void gameRejected(PgnGame game, InvalidPgnException cause) {
+				rejectedEvents.add(game.getTag("Event"));
+				assertTrue(cause.getMessage().contains("Ke3"));
+				assertEquals(2, game.getMovesCount());
+			}
+		});
+
+		// then
+		assertEquals(1, result.getGames());
+		assertEquals(1, result.getRejectedGames());
+		assertEquals("Illegal", rejectedEvents.get(0));
+		assertEquals("Legal", readEvents.get(0));
+	}
+
+	@Test
+	public void testGameWithTooManyTagsIsRejected() throws IOException {
+		// given
+		StringBuilder pgn = new StringBuilder();
+		for (int i = 0; i < 300; i++) {
+			pgn.append("[Tag").append(i).append(" \"value\"]\n");
+		}
+		pgn.append("\n1. e4 *\n\n[Event \"Next\"]\n\n1. d4 *\n");
+		List<Integer> tagsCounts = new ArrayList<Integer>();
+
+		// when
+		PgnReadResult result = new PgnReader(new StringReader(pgn.toString()))
+				.readAll(new PgnGameConsumer() {
+
+					@Override
+					public void gameRead(PgnGame game) {
+						assertEquals("Next", game.getTag("Event"));
+					}
+
+					@Override
+					public void gameRejected(PgnGame game, InvalidPgnException cause) {
+						tagsCounts.add(game.getTags().size());
+						assertTrue(cause.getMessage().contains("tags"));
+					}
+				});
+
+		// then
+		assertEquals(1, result.getGames());
+		assertEquals(1, result.getRejectedGames());
+		assertEquals(Integer.valueOf(256), tagsCounts.get(0));
+	}
+
+	@Test
+	public void testReadGameFromFenTag() throws IOException {
+		// given
+		String pgn = "[FEN \"4k3/8/8/8/8/8/4P3/4K3 w - - 0 1\"]\n[SetUp \"1\"]\n\n1. e4 Kd7\n\n"
+				+ "[Event \"Next\"]\n1. e4 *";
+		List<String> fens = new ArrayList<String>();
+
+		// when
+		PgnReadResult result = new PgnReader(new StringReader(pgn))
+				.readAll(game -> fens.add(game.snapshot().toFen()));
+
+		// then
+		assertEquals(2, result.getGames());
+		assertEquals("8/3k4/8/8/4P3/8/8/4K3 w - - 1 2", fens.get(0));
+		assertEquals("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1", fens.get(1));
+	}
+
+	@Test
+	public void testResolveDisambiguatedMoves() throws InvalidFenException, InvalidPgnException {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/8/8/8/8/1N2KN2 w - - 0 1");
+
+		// when
+		int fromB = San.resolve(boardManager, "Nbd2");
+		int fromF = San.resolve(boardManager, "Nf1d2");
+		boolean ambiguous = false;
+		try {
+			San.resolve(boardManager, "Nd2");
+		} catch (InvalidPgnException e) {
+			ambiguous = true;
+		}
+
+		// then
+		assertEquals(Bitboards.squareIndex(1, 0), PackedMove.from(fromB));
+		assertEquals(Bitboards.squareIndex(5, 0), PackedMove.from(fromF));
+		assertEquals(Bitboards.squareIndex(3, 1), PackedMove.to(fromF));
+		assertTrue(ambiguous);
+	}
+
+	@Test
+	public void testResolvePromotionAndCastling() throws InvalidFenException, InvalidPgnException {
+		// given
+		BoardManager boardManager = new BoardManager("r3k3/1P6/8/8/8/8/8/4K2R w K - 0 1");
+
+		// when
+		int promotion = San.resolve(boardManager, "bxa8=N+");
+		int castling = San.resolve(boardManager, "O-O");
+		int castlingWithZeros = San.resolve(boardManager, "0-0");
+
+		// then
+		assertEquals(PieceType.KNIGHT, PackedMove.promotionPieceType(promotion));
+		assertEquals(Bitboards.squareIndex(0, 7), PackedMove.to(promotion));
+		assertEquals(Bitboards.squareIndex(6, 0), PackedMove.to(castling));
+		assertEquals(castling, castlingWithZeros);
+	}
+
+}
@@ -0,0 +1,127 @@
+package com.capgemini.chess.algorithms.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Level;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidColorException;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidFenException;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+import com.capgemini.chess.algorithms.move.Move;
+
+/**
+ * Test class for testing {@link AlphaBetaSearch}
+ *
+ */
+public class AlphaBetaSearchTest {
+
+	@Test
+	public void testSearchFindsMateInOne() throws InvalidFenException, NoKingException {
+		// given
+		BoardManager boardManager = new BoardManager(
+				"r1bqkbnr/pppp1ppp/2n5/4p3/2B1P3/5Q2/PPPP1PPP/RNB1K1NR w KQkq - 4 4");
+		String fen = boardManager.toFen();
+
+		// when
+		SearchResult result = new AlphaBetaSearch().search(boardManager.getBoard(), SearchLimits.depth(3));
+
+		// then
+		assertEquals(new Coordinate(5, 2), result.getBestMove().getFrom());
+		assertEquals(new Coordinate(5, 6), result.getBestMove().getTo());
+		assertEquals(PieceType.QUEEN, result.getBestMove().getMovedPiece().getType());
+		assertTrue(result.isMateScore());
+		assertEquals(AlphaBetaSearch.MATE_SCORE - 1, result.getScore());
+		assertEquals(fen, boardManager.toFen());
+	}
+
+	@Test
+	public void testSearchFindsMateInTwo() throws InvalidFenException, NoKingException {
+		// given
+		Board board = new BoardManager("r2qkb1r/pp2nppp/3p4/2pNN1B1/2BnP3/3P4/PPP2PPP/R2bK2R w KQkq - 1 10")
+				.getBoard();
+
+		// when
+		SearchResult result = new AlphaBetaSearch().search(board, SearchLimits.depth(5));
+
+		// then
+		assertEquals(AlphaBetaSearch.MATE_SCORE - 3, result.getScore());
+		assertEquals(3, result.getPrincipalVariation().size());
+		assertEquals(new Coordinate(3, 4), result.getBestMove().getFrom());
+		assertEquals(new Coordinate(5, 5), result.getBestMove().getTo());
+	}
+
+	@Test
+	public void testSearchCapturesUndefendedQueen() throws InvalidFenException, NoKingException {
+		// given
+		Board board = new BoardManager("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1").getBoard();
+
+		// when
+		SearchResult result = new AlphaBetaSearch().search(board, SearchLimits.depth(4));
+
+		// then
+		assertEquals(new Coordinate(3, 1), result.getBestMove().getFrom());
+		assertEquals(new Coordinate(3, 4), result.getBestMove().getTo());
+		assertTrue(result.getScore() > 300);
+		assertEquals(4, result.getDepth());
+	}
+
+	@Test
+	public void testSearchWithoutLegalMove() throws InvalidFenException, NoKingException {
+		// given
+		Board board = new BoardManager("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1").getBoard();
+
+		// when
+		SearchResult result = new AlphaBetaSearch().search(board, SearchLimits.depth(4));
+
+		// then
+		assertNull(result.getBestMove());
+		assertEquals(0, result.getScore());
+		assertTrue(result.getPrincipalVariation().isEmpty());
+	}
+
+	@Test
+	public void testSearchForLevelReturnsLegalMove()
+			throws NoKingException, InvalidMoveException, InvalidColorException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		AlphaBetaSearch search = new AlphaBetaSearch();
+
+		// when
+		SearchResult result = search.search(boardManager.getBoard(), Level.MIDDLEBROW);
+		Move bestMove = result.getBestMove();
+		boardManager.performMove(bestMove.getFrom(), bestMove.getTo());
+
+		// then
+		assertNotNull(bestMove);
+		assertTrue(result.getDepth() >= 1);
+		assertTrue(result.getNodes() > 0);
+		assertFalse(result.getPrincipalVariation().isEmpty());
+		assertEquals(1, boardManager.getBoard().getMoveHistory().size());
+	}
+
+	@Test
+	public void testSearchStopsAtNodeLimit() throws NoKingException {
+		// given
+		Board board = new BoardManager().getBoard();
+
+		// when
+		SearchResult result = new AlphaBetaSearch().search(board, new SearchLimits(SearchLimits.MAX_DEPTH,
+				SearchLimits.NO_LIMIT, 20000));
+
+		// then
+		assertNotNull(result.getBestMove());
+		assertTrue(result.getDepth() < SearchLimits.MAX_DEPTH);
+		assertTrue(result.getNodes() <= 20000 || result.getDepth() == 1);
+	}
+
+}
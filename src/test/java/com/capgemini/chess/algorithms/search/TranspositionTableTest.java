@@ -0,0 +1,142 @@
+package com.capgemini.chess.algorithms.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.NoKingException;
+import com.capgemini.chess.algorithms.move.PackedMove;
+
+/**
+ * Test class for testing {@link TranspositionTable}
+ *
+ */
+public class TranspositionTableTest {
+
+	private static final int MOVE = PackedMove.of(Bitboards.squareIndex(4, 1), Bitboards.squareIndex(4, 3),
+			MoveType.ATTACK, null);
+
+	@Test
+	public void testStoreAndProbe() {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+
+		// when
+		table.store(0x1234_5678_9ABC_DEF0L, MOVE, 7, TranspositionTable.LOWER_BOUND, -29990);
+		long entry = table.probe(0x1234_5678_9ABC_DEF0L);
+		long missing = table.probe(0x1234_5678_9ABC_DEF1L);
+
+		// then
+		assertEquals(MOVE, TranspositionTable.move(entry));
+		assertEquals(7, TranspositionTable.depth(entry));
+		assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.bound(entry));
+		assertEquals(-29990, TranspositionTable.score(entry));
+		assertEquals(TranspositionTable.NO_ENTRY, missing);
+		assertEquals(TranspositionTable.NO_ENTRY, table.probe(0));
+		assertEquals(1024 * 1024 / 16, table.getCapacity());
+	}
+
+	@Test
+	public void testStoreKeepsMoveOfSamePosition() {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+		table.store(42, MOVE, 3, TranspositionTable.EXACT, 15);
+
+		// when
+		table.store(42, PackedMove.NONE, 4, TranspositionTable.UPPER_BOUND, -5);
+		long entry = table.probe(42);
+
+		// then
+		assertEquals(MOVE, TranspositionTable.move(entry));
+		assertEquals(4, TranspositionTable.depth(entry));
+		assertEquals(-5, TranspositionTable.score(entry));
+	}
+
+	@Test
+	public void testStoreReplacesShallowestAndOldEntries() {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+		long buckets = table.getCapacity() / 4;
+		for (int i = 0; i < 4; i++) {
+			table.store(1 + i * buckets, MOVE, 10 + i, TranspositionTable.EXACT, i);
+		}
+
+		// when
+		table.store(1 + 4 * buckets, MOVE, 1, TranspositionTable.EXACT, 4);
+		long replacedByDepth = table.probe(1);
+		table.newSearch();
+		table.store(1 + 5 * buckets, MOVE, 1, TranspositionTable.EXACT, 5);
+
+		// then
+		assertEquals(TranspositionTable.NO_ENTRY, replacedByDepth);
+		assertTrue(table.probe(1 + 3 * buckets) != TranspositionTable.NO_ENTRY);
+		assertEquals(TranspositionTable.NO_ENTRY, table.probe(1 + 4 * buckets));
+		assertEquals(5, TranspositionTable.score(table.probe(1 + 5 * buckets)));
+	}
+
+	@Test
+	public void testConcurrentAccessNeverReturnsTornEntries() throws InterruptedException {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+		List<Thread> threads = new ArrayList<Thread>();
+		List<AssertionError> errors = new ArrayList<AssertionError>();
+
+		// when
+		for (int t = 0; t < 4; t++) {
+			int seed = t;
+			Thread thread = new Thread(() -> {
+				for (long key = seed; key < 200_000; key += 4) {
+					// the score and the depth are derived from the key to verify the entries read
+					table.store(key * 0x9E37_79B9_7F4A_7C15L, MOVE, (int) (key % 64), TranspositionTable.EXACT,
+							(int) (key % 1000));
+					long probed = (key / 2) * 0x9E37_79B9_7F4A_7C15L;
+					long entry = table.probe(probed);
+					if (entry != TranspositionTable.NO_ENTRY && (TranspositionTable.score(entry) != (key / 2) % 1000
+							|| TranspositionTable.depth(entry) != (key / 2) % 64)) {
+						synchronized (errors) {
+							errors.add(new AssertionError("Torn entry of the key " + key / 2));
+						}
+					}
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// then
+		assertTrue(errors.isEmpty());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSize() {
+		// when
+		new TranspositionTable(0);
+	}
+
+	@Test
+	public void testSearchReusesTable() throws NoKingException {
+		// given
+		Board board = new BoardManager().getBoard();
+		AlphaBetaSearch search = new AlphaBetaSearch(new MaterialEvaluator(), new TranspositionTable(4));
+
+		// when
+		SearchResult first = search.search(board, SearchLimits.depth(5));
+		SearchResult second = search.search(board, SearchLimits.depth(5));
+
+		// then
+		assertEquals(first.getScore(), second.getScore());
+		assertTrue(second.getNodes() < first.getNodes());
+	}
+
+}
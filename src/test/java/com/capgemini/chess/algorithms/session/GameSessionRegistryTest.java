@@ -0,0 +1,109 @@
+package com.capgemini.chess.algorithms.session;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.GameFixtures;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Test class for testing {@link GameSessionRegistry}
+ *
+ */
+public class GameSessionRegistryTest {
+
+	@Test
+	public void testPerformMovesOfManyGamesConcurrently() throws Exception {
+		// given
+		GameSessionRegistry registry = new GameSessionRegistry();
+		for (long gameId = 0; gameId < 64; gameId++) {
+			registry.openSession(gameId);
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		// when
+		List<Future<BoardState>> results = new ArrayList<Future<BoardState>>();
+		for (long gameId = 0; gameId < 64; gameId++) {
+			GameSession session = registry.getSession(gameId);
+			results.add(executor.submit(() -> {
+				for (Coordinate[] move : GameFixtures.FOOLS_MATE) {
+					session.performMove(move[0], move[1]);
+				}
+				return session.getBoardState();
+			}));
+		}
+		for (Future<BoardState> result : results) {
+			assertEquals(BoardState.CHECK_MATE, result.get());
+		}
+		executor.shutdown();
+
+		// then
+		for (long gameId = 0; gameId < 64; gameId++) {
+			assertEquals(BoardState.CHECK_MATE, registry.getBoardState(gameId));
+			assertEquals(4, registry.getSession(gameId).getMovesCount());
+			assertEquals(BoardState.CHECK_MATE, registry.getSession(gameId).getSnapshot().query().calculateBoardState());
+		}
+	}
+
+	@Test
+	public void testIllegalMoveIsNotCommitted() throws Exception {
+		// given
+		GameSessionRegistry registry = new GameSessionRegistry();
+		GameSession session = registry.openSession(1L);
+		boolean exceptionThrown = false;
+
+		// when
+		try {
+			session.performMove(new Coordinate(4, 1), new Coordinate(4, 4));
+		} catch (InvalidMoveException e) {
+			exceptionThrown = true;
+		}
+
+		// then
+		assertTrue(exceptionThrown);
+		assertEquals(0, session.getMovesCount());
+		assertEquals(BoardState.REGULAR, session.getBoardState());
+	}
+
+	@Test
+	public void testOpenAndCloseSessions() throws Exception {
+		// given
+		GameSessionRegistry registry = new GameSessionRegistry(16);
+		registry.openSession(1L, new BoardManager("4k3/8/8/8/8/8/8/R3K3 w - - 0 1"));
+		boolean exceptionThrown = false;
+
+		// when
+		try {
+			registry.openSession(1L);
+		} catch (IllegalArgumentException e) {
+			exceptionThrown = true;
+		}
+		BoardState state = registry.getSession(1L).execute(boardManager -> {
+			boardManager.performMove(new Coordinate(0, 0), new Coordinate(0, 7));
+			return null;
+		});
+		BoardState updatedState = registry.getSession(1L).updateBoardState();
+		GameSession closed = registry.closeSession(1L);
+
+		// then
+		assertTrue(exceptionThrown);
+		assertNull(state);
+		assertEquals(BoardState.CHECK, updatedState);
+		assertEquals(1, closed.getMovesCount());
+		assertNull(registry.getSession(1L));
+		assertEquals(0, registry.getSessionsCount());
+	}
+
+}